@@ -4,6 +4,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.Map;
+import java.util.Optional;
+
 @Component
 @RequiredArgsConstructor
 public class UserServiceClient {
@@ -34,4 +37,24 @@ public class UserServiceClient {
             throw new RuntimeException("사용자 정지 해제 실패: " + e.getMessage());
         }
     }
+    
+    // 닉네임 검색 (User 서비스 n-gram 인덱스) - { content: [...], nextCursor }
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> searchUsers(String query, String mode, String cursor, int size) {
+        try {
+            return userServiceWebClient
+                .get()
+                .uri(uriBuilder -> uriBuilder.path("/search")
+                    .queryParam("q", query)
+                    .queryParam("mode", mode)
+                    .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                    .queryParam("size", size)
+                    .build())
+                .retrieve()
+                .bodyToMono(Map.class)
+                .block();
+        } catch (Exception e) {
+            throw new RuntimeException("사용자 검색 실패: " + e.getMessage());
+        }
+    }
 }
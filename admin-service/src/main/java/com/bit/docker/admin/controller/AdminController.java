@@ -143,6 +143,23 @@ public class AdminController {
         return ResponseEntity.ok().build();
     }
     
+    // 사용자 닉네임 검색 - mode: PREFIX(접두어) / FUZZY(오타 허용), cursor: 이전 응답의 nextCursor
+    @GetMapping("/users/search")
+    public ResponseEntity<Map<String, Object>> searchUsers(
+        @RequestParam String q,
+        @RequestParam(defaultValue = "PREFIX") String mode,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestHeader("X-User-Role") String role
+    ) {
+        // Role이 ADMIN인지 확인
+        if (!"ADMIN".equals(role)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        Map<String, Object> response = adminService.searchUsers(q, mode, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+    
     // ========== 운영 통계 ==========
     
     // 운영 통계 조회
@@ -20,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -129,6 +130,11 @@ public class AdminService {
         userServiceClient.unblockUser(userId);
     }
 
+    // 사용자 닉네임 검색 (PREFIX / FUZZY, 커서 페이지네이션)
+    public Map<String, Object> searchUsers(String query, String mode, String cursor, int size) {
+        return userServiceClient.searchUsers(query, mode, cursor, size);
+    }
+
     // ========== 운영 통계 ==========
 
     // 운영 통계 조회 (H4. 최소 3개 지표)
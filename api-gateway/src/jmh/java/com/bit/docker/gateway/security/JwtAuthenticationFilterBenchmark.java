@@ -0,0 +1,111 @@
+package com.bit.docker.gateway.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GW 요청당 고정 비용 측정 (JwtAuthenticationFilter 단독, 다운스트림 호출 제외)
+ * - whitelist: 로그인/회원가입 경로
+ * - authenticatedCached: 같은 토큰의 반복 요청 (헤더 세트 캐시 적중)
+ * - authenticatedUncached: 처음 보는 토큰 (서명 검증 + claims 파싱)
+ * - missingToken: Authorization 헤더 없음 (401)
+ * - baseline: exchange 생성 비용만 (각 결과에서 빼고 볼 것)
+ * 실행: ./gradlew jmh  (결과: build/results/jmh/results.txt)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+    private static final String SECRET = "SUPER-STRONG-HYPER-ULTRA-DEV-KEY";
+    private static final String WHITELIST = "/api/auth/login,/api/auth/register";
+
+    // 실제 다운스트림 대신 즉시 완료되는 체인
+    private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        String[] whitelist = WHITELIST.split(",");
+        cachedFilter = new JwtAuthenticationFilter(
+                tokenProvider, new AuthenticatedHeaderCache(10000), meterRegistry, whitelist);
+        uncachedFilter = new JwtAuthenticationFilter(
+                tokenProvider, new AuthenticatedHeaderCache(0), meterRegistry, whitelist);
+
+        // auth-service JwtTokenProvider.createToken 과 같은 claims
+        token = Jwts.builder()
+                .setSubject("42")
+                .claim("username", "student01")
+                .claim("nickname", "분실물찾는중")
+                .claim("role", "USER")
+                .claim("status", "ACTIVE")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    @Benchmark
+    public Object baseline() {
+        return MockServerWebExchange.from(authorized("/api/lost?page=0&size=20"));
+    }
+
+    @Benchmark
+    public Object whitelist() {
+        return run(cachedFilter, MockServerHttpRequest.post("/api/auth/login").build());
+    }
+
+    @Benchmark
+    public Object authenticatedCached() {
+        return run(cachedFilter, authorized("/api/lost?page=0&size=20"));
+    }
+
+    @Benchmark
+    public Object authenticatedUncached() {
+        return run(uncachedFilter, authorized("/api/lost?page=0&size=20"));
+    }
+
+    @Benchmark
+    public Object missingToken() {
+        return run(cachedFilter, MockServerHttpRequest.get("/api/lost").build());
+    }
+
+    private MockServerHttpRequest authorized(String uri) {
+        return MockServerHttpRequest.get(uri)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .build();
+    }
+
+    private Object run(JwtAuthenticationFilter filter, MockServerHttpRequest request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, CHAIN).block();
+        return exchange;
+    }
+}
@@ -0,0 +1,101 @@
+package com.bit.docker.gateway.config;
+
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.transport.AddressUtils;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 라우트(다운스트림 서비스)별로 커넥션 풀을 따로 설정하는 HttpClientFactory
+ * - 기본값은 spring.cloud.gateway.httpclient.pool, 라우트별 값은 gateway.upstream.pools.{routeId}
+ * - 느린 서비스(예: handover-service)가 대기 큐를 채워도 다른 서비스의 커넥션에는 영향이 없도록 분리
+ */
+public class RoutePoolHttpClientFactory extends HttpClientFactory {
+    private final GatewayProperties gatewayProperties;
+    private final UpstreamProperties upstreamProperties;
+
+    public RoutePoolHttpClientFactory(HttpClientProperties properties,
+                                      ServerProperties serverProperties,
+                                      HttpClientSslConfigurer sslConfigurer,
+                                      List<HttpClientCustomizer> customizers,
+                                      GatewayProperties gatewayProperties,
+                                      UpstreamProperties upstreamProperties) {
+        super(properties, serverProperties, sslConfigurer, customizers);
+        this.gatewayProperties = gatewayProperties;
+        this.upstreamProperties = upstreamProperties;
+    }
+
+    @Override
+    protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+        HttpClientProperties.Pool pool = properties.getPool();
+        if (pool.getType() != HttpClientProperties.Pool.PoolType.FIXED) {
+            // ELASTIC / DISABLED는 기본 동작 유지
+            return super.buildConnectionProvider(properties);
+        }
+
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(pool.getName())
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getMaxConnections() * 2)
+                .pendingAcquireTimeout(Duration.ofMillis(pool.getAcquireTimeout()))
+                .metrics(pool.isMetrics());
+        if (pool.getMaxIdleTime() != null) {
+            builder.maxIdleTime(pool.getMaxIdleTime());
+        }
+        if (pool.getMaxLifeTime() != null) {
+            builder.maxLifeTime(pool.getMaxLifeTime());
+        }
+        builder.evictInBackground(pool.getEvictionInterval());
+
+        for (Map.Entry<String, UpstreamProperties.RoutePool> entry : upstreamProperties.getPools().entrySet()) {
+            URI uri = findRouteUri(entry.getKey());
+            if (uri == null || uri.getHost() == null) {
+                throw new IllegalStateException("커넥션 풀을 설정할 라우트를 찾을 수 없습니다: " + entry.getKey());
+            }
+            int port = uri.getPort() != -1 ? uri.getPort() : ("https".equals(uri.getScheme()) ? 443 : 80);
+            UpstreamProperties.RoutePool routePool = entry.getValue();
+
+            // Reactor Netty는 원격 주소(host:port)별로 풀을 구분하므로 라우트 URI 주소에 설정을 연결
+            builder.forRemoteHost(AddressUtils.createUnresolved(uri.getHost(), port), spec -> {
+                if (routePool.getMaxConnections() != null) {
+                    spec.maxConnections(routePool.getMaxConnections());
+                    spec.pendingAcquireMaxCount(routePool.getMaxConnections() * 2);
+                }
+                if (routePool.getPendingAcquireMaxCount() != null) {
+                    spec.pendingAcquireMaxCount(routePool.getPendingAcquireMaxCount());
+                }
+                if (routePool.getPendingAcquireTimeout() != null) {
+                    spec.pendingAcquireTimeout(routePool.getPendingAcquireTimeout());
+                }
+                if (routePool.getMaxIdleTime() != null) {
+                    spec.maxIdleTime(routePool.getMaxIdleTime());
+                }
+                if (routePool.getMaxLifeTime() != null) {
+                    spec.maxLifeTime(routePool.getMaxLifeTime());
+                }
+                spec.evictInBackground(pool.getEvictionInterval());
+                spec.metrics(pool.isMetrics());
+            });
+        }
+
+        return builder.build();
+    }
+
+    private URI findRouteUri(String routeId) {
+        for (RouteDefinition route : gatewayProperties.getRoutes()) {
+            if (route.getId().equals(routeId)) {
+                return route.getUri();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.bit.docker.gateway.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+
+import java.util.List;
+
+@Configuration
+public class UpstreamHttpClientConfig {
+
+    // GW -> 각 서비스 구간 프로토콜 설정
+    // 내부망은 TLS가 없으므로 h2c(Upgrade)로 시도하고, 지원하지 않는 서비스는 HTTP/1.1로 동작
+    @Bean
+    public HttpClientCustomizer upstreamProtocolCustomizer(UpstreamProperties upstreamProperties) {
+        return httpClient -> {
+            httpClient = upstreamProperties.isH2cEnabled()
+                    ? httpClient.protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+                    : httpClient.protocol(HttpProtocol.HTTP11);
+            return httpClient
+                    .keepAlive(true)
+                    .option(ChannelOption.SO_KEEPALIVE, upstreamProperties.isTcpKeepAlive());
+        };
+    }
+
+    // 라우트별 커넥션 풀 (GatewayAutoConfiguration의 기본 HttpClientFactory 대체)
+    @Bean
+    public HttpClientFactory gatewayHttpClientFactory(HttpClientProperties httpClientProperties,
+                                                      ServerProperties serverProperties,
+                                                      List<HttpClientCustomizer> customizers,
+                                                      HttpClientSslConfigurer sslConfigurer,
+                                                      GatewayProperties gatewayProperties,
+                                                      UpstreamProperties upstreamProperties) {
+        return new RoutePoolHttpClientFactory(httpClientProperties, serverProperties, sslConfigurer,
+                customizers, gatewayProperties, upstreamProperties);
+    }
+}
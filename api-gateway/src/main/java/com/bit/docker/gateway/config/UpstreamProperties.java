@@ -0,0 +1,104 @@
+package com.bit.docker.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// GW -> 각 서비스 구간 HTTP 클라이언트 설정 (gateway.upstream.*)
+@Component
+@ConfigurationProperties(prefix = "gateway.upstream")
+public class UpstreamProperties {
+
+    // h2c(Upgrade) 시도 여부
+    private boolean h2cEnabled = true;
+
+    // TCP keep-alive (유휴 커넥션이 중간 장비에서 끊기지 않도록)
+    private boolean tcpKeepAlive = true;
+
+    // 라우트 ID별 커넥션 풀 설정 (지정하지 않은 값은 spring.cloud.gateway.httpclient.pool 값 사용)
+    private Map<String, RoutePool> pools = new LinkedHashMap<>();
+
+    public boolean isH2cEnabled() {
+        return h2cEnabled;
+    }
+
+    public void setH2cEnabled(boolean h2cEnabled) {
+        this.h2cEnabled = h2cEnabled;
+    }
+
+    public boolean isTcpKeepAlive() {
+        return tcpKeepAlive;
+    }
+
+    public void setTcpKeepAlive(boolean tcpKeepAlive) {
+        this.tcpKeepAlive = tcpKeepAlive;
+    }
+
+    public Map<String, RoutePool> getPools() {
+        return pools;
+    }
+
+    public void setPools(Map<String, RoutePool> pools) {
+        this.pools = pools;
+    }
+
+    public static class RoutePool {
+        // 최대 커넥션 수
+        private Integer maxConnections;
+
+        // 커넥션을 기다리는 요청 큐 크기 (초과 시 즉시 실패)
+        private Integer pendingAcquireMaxCount;
+
+        // 커넥션 대기 최대 시간
+        private Duration pendingAcquireTimeout;
+
+        // 유휴 커넥션 정리 기준
+        private Duration maxIdleTime;
+
+        // 커넥션 최대 수명
+        private Duration maxLifeTime;
+
+        public Integer getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(Integer maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public Integer getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        public void setPendingAcquireMaxCount(Integer pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        public Duration getPendingAcquireTimeout() {
+            return pendingAcquireTimeout;
+        }
+
+        public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+        }
+
+        public Duration getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public Duration getMaxLifeTime() {
+            return maxLifeTime;
+        }
+
+        public void setMaxLifeTime(Duration maxLifeTime) {
+            this.maxLifeTime = maxLifeTime;
+        }
+    }
+}
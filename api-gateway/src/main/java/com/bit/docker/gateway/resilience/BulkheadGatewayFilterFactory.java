@@ -0,0 +1,65 @@
+package com.bit.docker.gateway.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 라우트 필터: 서비스별 동시 요청 수 제한 (resilience4j.bulkhead.instances.<name>)
+ * - 한 서비스가 느려져도 GW의 커넥션/이벤트루프를 독점하지 못하도록 격리
+ * - 포화 시 대기하지 않고 즉시 fallback (stale 응답 또는 503)
+ * routes[].filters 에 "- name: Bulkhead / args.name: <라우트 ID>" 로 사용 (CircuitBreaker 앞에 둘 것)
+ */
+@Component
+public class BulkheadGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<BulkheadGatewayFilterFactory.Config> {
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final FallbackResponder fallbackResponder;
+
+    public BulkheadGatewayFilterFactory(BulkheadRegistry bulkheadRegistry, FallbackResponder fallbackResponder) {
+        super(Config.class);
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.fallbackResponder = fallbackResponder;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("name");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String name = config.getName() != null ? config.getName() : (route != null ? route.getId() : "default");
+            // 설정된 인스턴스가 없으면 configs.default 로 생성
+            Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+
+            return chain.filter(exchange)
+                    .transformDeferred(BulkheadOperator.of(bulkhead))
+                    .onErrorResume(BulkheadFullException.class,
+                            e -> fallbackResponder.respond(exchange, name));
+        };
+    }
+
+    public static class Config {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.bit.docker.gateway.resilience;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.circuitbreaker.event.CircuitBreakerOnStateTransitionEvent;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서킷 상태 전이(CLOSED -> OPEN 등) 카운터 + 로그
+ * - 현재 상태/실패율은 resilience4j-micrometer가 resilience4j.circuitbreaker.* 로 노출
+ * - gateway.circuitbreaker.transitions{name, from, to}
+ */
+@Component
+public class CircuitBreakerTransitionMetrics {
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreakerTransitionMetrics.class);
+
+    private final MeterRegistry meterRegistry;
+
+    public CircuitBreakerTransitionMetrics(CircuitBreakerRegistry circuitBreakerRegistry, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        // 설정 파일의 인스턴스 + 첫 요청 시 생성되는 인스턴스 모두 등록
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::register);
+        circuitBreakerRegistry.getEventPublisher()
+                .onEntryAdded((EntryAddedEvent<CircuitBreaker> event) -> register(event.getAddedEntry()));
+    }
+
+    private void register(CircuitBreaker circuitBreaker) {
+        circuitBreaker.getEventPublisher().onStateTransition(this::onStateTransition);
+    }
+
+    private void onStateTransition(CircuitBreakerOnStateTransitionEvent event) {
+        CircuitBreaker.StateTransition transition = event.getStateTransition();
+        log.warn("[circuit-breaker] {} {} -> {}",
+                event.getCircuitBreakerName(), transition.getFromState(), transition.getToState());
+        Counter.builder("gateway.circuitbreaker.transitions")
+                .description("Circuit breaker state transitions per route")
+                .tag("name", event.getCircuitBreakerName())
+                .tag("from", transition.getFromState().name())
+                .tag("to", transition.getToState().name())
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,26 @@
+package com.bit.docker.gateway.resilience;
+
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * CircuitBreaker 필터의 fallbackUri (forward:/fallback/{routeId})
+ * - 서킷 OPEN, 타임아웃, 502/503/504 응답 시 이쪽으로 forward 됨
+ */
+@RestController
+@RequestMapping("/fallback")
+public class FallbackController {
+    private final FallbackResponder fallbackResponder;
+
+    public FallbackController(FallbackResponder fallbackResponder) {
+        this.fallbackResponder = fallbackResponder;
+    }
+
+    @RequestMapping("/{routeId}")
+    public Mono<Void> fallback(@PathVariable String routeId, ServerWebExchange exchange) {
+        return fallbackResponder.respond(exchange, routeId);
+    }
+}
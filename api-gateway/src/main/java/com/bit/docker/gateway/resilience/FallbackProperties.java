@@ -0,0 +1,69 @@
+package com.bit.docker.gateway.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+// 서킷브레이커/벌크헤드 fallback 설정 (gateway.fallback.*)
+@Component
+@ConfigurationProperties(prefix = "gateway.fallback")
+public class FallbackProperties {
+
+    // 503 응답의 Retry-After (서킷 OPEN 유지 시간과 맞춤)
+    private Duration retryAfter = Duration.ofSeconds(10);
+
+    private StaleCache staleCache = new StaleCache();
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    public StaleCache getStaleCache() {
+        return staleCache;
+    }
+
+    public void setStaleCache(StaleCache staleCache) {
+        this.staleCache = staleCache;
+    }
+
+    public static class StaleCache {
+        // 보관할 최대 응답 수 (LRU)
+        private int maxEntries = 1000;
+
+        // 이보다 큰 응답은 보관하지 않음
+        private DataSize maxBodySize = DataSize.ofKilobytes(256);
+
+        // 이보다 오래된 응답은 fallback으로 내보내지 않음
+        private Duration maxStale = Duration.ofMinutes(10);
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public DataSize getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public void setMaxBodySize(DataSize maxBodySize) {
+            this.maxBodySize = maxBodySize;
+        }
+
+        public Duration getMaxStale() {
+            return maxStale;
+        }
+
+        public void setMaxStale(Duration maxStale) {
+            this.maxStale = maxStale;
+        }
+    }
+}
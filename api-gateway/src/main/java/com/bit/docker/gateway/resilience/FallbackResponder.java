@@ -0,0 +1,62 @@
+package com.bit.docker.gateway.resilience;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 서킷 OPEN / 벌크헤드 포화 / 다운스트림 장애 시 응답
+ * - 같은 요청의 최근 성공 응답이 있으면 stale 응답 (Warning: 110)
+ * - 없으면 503 + Retry-After
+ */
+@Component
+public class FallbackResponder {
+    private final StaleResponseCache staleResponseCache;
+    private final FallbackProperties fallbackProperties;
+
+    public FallbackResponder(StaleResponseCache staleResponseCache, FallbackProperties fallbackProperties) {
+        this.staleResponseCache = staleResponseCache;
+        this.fallbackProperties = fallbackProperties;
+    }
+
+    public Mono<Void> respond(ServerWebExchange exchange, String routeId) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.empty();
+        }
+
+        String key = exchange.getAttribute(StaleCacheGatewayFilterFactory.STALE_CACHE_KEY_ATTR);
+        StaleResponseCache.Entry stale = key != null ? staleResponseCache.get(key) : null;
+        if (stale != null) {
+            exchange.getAttributes().put(StaleCacheGatewayFilterFactory.STALE_RESPONSE_ATTR, Boolean.TRUE);
+            HttpHeaders headers = response.getHeaders();
+            response.setStatusCode(HttpStatus.OK);
+            headers.setContentType(stale.contentType());
+            headers.set(HttpHeaders.WARNING, "110 - \"Response is Stale\"");
+            headers.set(HttpHeaders.AGE, String.valueOf(stale.age().toSeconds()));
+            headers.set("X-Cache", "STALE");
+            return write(response, stale.body());
+        }
+
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                String.valueOf(fallbackProperties.getRetryAfter().toSeconds()));
+        String body = "{\"error\":\"SERVICE_UNAVAILABLE\",\"route\":\"" + routeId
+                + "\",\"message\":\"서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.\"}";
+        return write(response, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, byte[] body) {
+        response.getHeaders().setContentLength(body.length);
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+}
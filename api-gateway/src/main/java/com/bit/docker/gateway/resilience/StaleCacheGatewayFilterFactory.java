@@ -0,0 +1,107 @@
+package com.bit.docker.gateway.resilience;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 라우트 필터: 성공한 GET(JSON) 응답을 StaleResponseCache에 복사해 둔다.
+ * routes[].filters 에 "- StaleCache" 로 사용
+ */
+@Component
+public class StaleCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<StaleCacheGatewayFilterFactory.Config> {
+
+    // fallback에서 같은 키로 조회할 수 있도록 exchange 속성에 저장
+    public static final String STALE_CACHE_KEY_ATTR = StaleCacheGatewayFilterFactory.class.getName() + ".key";
+
+    // fallback이 stale 응답을 내보내는 중임을 표시 (다시 보관하면 저장 시각이 갱신되어 max-stale이 끝나지 않음)
+    public static final String STALE_RESPONSE_ATTR = StaleCacheGatewayFilterFactory.class.getName() + ".stale";
+
+    private final StaleResponseCache staleResponseCache;
+
+    public StaleCacheGatewayFilterFactory(StaleResponseCache staleResponseCache) {
+        super(Config.class);
+        this.staleResponseCache = staleResponseCache;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // 응답 본문을 가로채려면 NettyWriteResponseFilter보다 먼저 response를 감싸야 함
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!HttpMethod.GET.equals(request.getMethod())) {
+                return chain.filter(exchange);
+            }
+
+            String key = cacheKey(request);
+            exchange.getAttributes().put(STALE_CACHE_KEY_ATTR, key);
+
+            ServerHttpResponse response = exchange.getResponse();
+            ServerHttpResponseDecorator decorated = new ServerHttpResponseDecorator(response) {
+                @Override
+                public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                    MediaType contentType = getHeaders().getContentType();
+                    long contentLength = getHeaders().getContentLength();
+                    if (Boolean.TRUE.equals(exchange.getAttribute(STALE_RESPONSE_ATTR))
+                            || !HttpStatus.OK.equals(getStatusCode())
+                            || contentType == null
+                            || !MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                            || (contentLength >= 0 && !staleResponseCache.accepts(contentLength))) {
+                        return super.writeWith(body);
+                    }
+
+                    // 원본 버퍼는 그대로 내려보내고, 복사본만 누적 (크기 초과 시 보관 포기)
+                    ByteArrayOutputStream copy = new ByteArrayOutputStream();
+                    AtomicBoolean overflow = new AtomicBoolean(false);
+                    Flux<? extends DataBuffer> tee = Flux.from(body)
+                            .doOnNext(buffer -> {
+                                int length = buffer.readableByteCount();
+                                if (overflow.get() || !staleResponseCache.accepts((long) copy.size() + length)) {
+                                    overflow.set(true);
+                                    return;
+                                }
+                                ByteBuffer bytes = ByteBuffer.allocate(length);
+                                buffer.toByteBuffer(buffer.readPosition(), bytes, 0, length);
+                                copy.write(bytes.array(), 0, length);
+                            })
+                            .doOnComplete(() -> {
+                                if (!overflow.get() && copy.size() > 0) {
+                                    staleResponseCache.put(key, contentType, copy.toByteArray());
+                                }
+                            });
+                    return super.writeWith(tee);
+                }
+            };
+
+            return chain.filter(exchange.mutate().response(decorated).build());
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    // 사용자별 응답(/my 등)이 섞이지 않도록 JwtAuthenticationFilter가 넣은 사용자 ID 포함
+    static String cacheKey(ServerHttpRequest request) {
+        String userId = request.getHeaders().getFirst("X-User-Id");
+        return request.getMethod() + " " + request.getURI().getRawPath()
+                + (request.getURI().getRawQuery() != null ? "?" + request.getURI().getRawQuery() : "")
+                + " #" + (userId != null ? userId : "anonymous");
+    }
+
+    public static class Config {
+    }
+}
@@ -0,0 +1,62 @@
+package com.bit.docker.gateway.resilience;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 마지막으로 성공한 GET 응답 보관소 (서킷 OPEN / 벌크헤드 포화 시 stale 응답으로 사용)
+ * - 키: 메서드 + 경로 + 쿼리 + 사용자 ID (사용자별 응답이 섞이지 않도록)
+ * - 크기 제한 LRU
+ */
+@Component
+public class StaleResponseCache {
+    private final FallbackProperties.StaleCache properties;
+    private final Map<String, Entry> entries;
+
+    public StaleResponseCache(FallbackProperties fallbackProperties) {
+        this.properties = fallbackProperties.getStaleCache();
+        int maxEntries = properties.getMaxEntries();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public boolean accepts(long contentLength) {
+        return contentLength <= properties.getMaxBodySize().toBytes();
+    }
+
+    public void put(String key, MediaType contentType, byte[] body) {
+        if (!accepts(body.length)) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry(contentType, body, Instant.now()));
+        }
+    }
+
+    // max-stale 이내의 응답만 반환
+    public Entry get(String key) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null || entry.age().compareTo(properties.getMaxStale()) > 0) {
+            return null;
+        }
+        return entry;
+    }
+
+    public record Entry(MediaType contentType, byte[] body, Instant storedAt) {
+        public Duration age() {
+            return Duration.between(storedAt, Instant.now());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.bit.docker.gateway.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 토큰 -> 다운스트림 전달 헤더(X-User-*) 캐시
+ * - 같은 토큰의 반복 요청은 서명 검증/claims 파싱 없이 미리 만든 헤더 세트를 재사용
+ * - 토큰 만료(exp) 이후에는 사용하지 않음 (exp가 없는 토큰은 캐시하지 않음)
+ * - 최대 개수를 넘으면 만료 항목 정리, 그래도 넘으면 비움
+ */
+@Component
+public class AuthenticatedHeaderCache {
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, AuthenticatedHeaders> entries = new ConcurrentHashMap<>();
+
+    public AuthenticatedHeaderCache(@Value("${jwt.header-cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    // 캐시에 없거나 만료되었으면 null
+    public AuthenticatedHeaders get(String token) {
+        AuthenticatedHeaders headers = entries.get(token);
+        if (headers == null) {
+            return null;
+        }
+        if (headers.isExpired(System.currentTimeMillis())) {
+            entries.remove(token, headers);
+            return null;
+        }
+        return headers;
+    }
+
+    public AuthenticatedHeaders put(String token, Claims claims) {
+        AuthenticatedHeaders headers = AuthenticatedHeaders.from(claims);
+        if (maxEntries <= 0 || headers.expiresAtMillis == Long.MAX_VALUE) {
+            return headers;
+        }
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        entries.put(token, headers);
+        return headers;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(headers -> headers.isExpired(now));
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * 인증된 요청에 붙일 헤더 세트 (request.mutate().headers(...) 한 번으로 적용)
+     */
+    public static final class AuthenticatedHeaders implements Consumer<HttpHeaders> {
+        private final String userId;
+        private final String username;
+        private final String nickname;
+        private final String role;
+        private final String status;
+        private final long expiresAtMillis;
+
+        private AuthenticatedHeaders(String userId, String username, String nickname,
+                                     String role, String status, long expiresAtMillis) {
+            this.userId = userId;
+            this.username = username;
+            this.nickname = nickname;
+            this.role = role;
+            this.status = status;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        static AuthenticatedHeaders from(Claims claims) {
+            Date expiration = claims.getExpiration();
+            return new AuthenticatedHeaders(
+                    claims.getSubject(),
+                    claims.get("username", String.class),
+                    claims.get("nickname", String.class),
+                    claims.get("role", String.class),
+                    claims.get("status", String.class),
+                    expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+
+        @Override
+        public void accept(HttpHeaders headers) {
+            set(headers, "X-User-Id", userId);
+            set(headers, "X-Username", username);
+            set(headers, "X-Nickname", nickname);
+            set(headers, "X-User-Role", role);
+            set(headers, "X-User-Status", status);
+        }
+
+        private static void set(HttpHeaders headers, String name, String value) {
+            if (value != null) {
+                headers.set(name, value);
+            } else {
+                headers.remove(name);
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.bit.docker.gateway.security;
 
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
@@ -14,22 +16,52 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Component
 public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+    // 필터 단계 소요 시간 (result 태그: 통과 사유 / 거절 사유)
+    private static final String METRIC_NAME = "gateway.jwt.filter";
+    private static final String RESULT_PREFLIGHT = "preflight";
+    private static final String RESULT_WHITELIST = "whitelist";
+    private static final String RESULT_MISSING_TOKEN = "missing_token";
+    private static final String RESULT_INVALID_TOKEN = "invalid_token";
+    private static final String RESULT_AUTHENTICATED = "authenticated";
+
     private final JwtTokenProvider jwtTokenProvider;
-    private final List<String> whitelistPaths;
+    private final WhitelistPathMatcher whitelist;
+    private final AuthenticatedHeaderCache headerCache;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new HashMap<>();
 
     public JwtAuthenticationFilter(
             JwtTokenProvider jwtTokenProvider,
+            AuthenticatedHeaderCache headerCache,
+            MeterRegistry meterRegistry,
             @Value("${jwt.whitelist-paths:/api/auth/login,/api/auth/register}") String[] whitelistPaths) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.whitelistPaths = Arrays.asList(whitelistPaths);
+        this.meterRegistry = meterRegistry;
+        this.headerCache = headerCache;
+        this.whitelist = new WhitelistPathMatcher(Arrays.asList(whitelistPaths));
+
+        // 요청마다 registry 조회를 하지 않도록 결과별 Timer를 미리 등록
+        for (String result : List.of(RESULT_PREFLIGHT, RESULT_WHITELIST, RESULT_MISSING_TOKEN,
+                RESULT_INVALID_TOKEN, RESULT_AUTHENTICATED)) {
+            timers.put(result, Timer.builder(METRIC_NAME)
+                    .description("JwtAuthenticationFilter 처리 시간 (다운스트림 호출 제외)")
+                    .tag("result", result)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
     }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
         // http://localhost:8080/###/### 으로 요청이 들어왔을 때
         // /###/### 을 추출하는 코드
         String path = exchange.getRequest().getURI().getPath();
@@ -38,14 +70,14 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         // CORS preflight는 무조건 통과
         // pre+flight
         if (HttpMethod.OPTIONS.equals(httpMethod)) {
+            stop(sample, RESULT_PREFLIGHT);
             return chain.filter(exchange);
         }
 
         // 화이트리스트 url은 무조건 통과
-        for (String w : whitelistPaths) {
-            if (path.startsWith(w)) {
-                return chain.filter(exchange);
-            }
+        if (whitelist.matches(path)) {
+            stop(sample, RESULT_WHITELIST);
+            return chain.filter(exchange);
         }
 
         // 위의 2가지 경우가 아닐 때
@@ -57,6 +89,7 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
         // 2. 만약 header가 없거나 유효하지 않으면 거절
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            stop(sample, RESULT_MISSING_TOKEN);
             exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
             return exchange.getResponse().setComplete();
         }
@@ -64,43 +97,47 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         // 3. String authHeader에서 "Bearer "를 제거하여 진짜 토큰값만 남김
         String token = authHeader.substring(7);
 
-        // String token을 토대로 Claims 객체 생성
-        Claims claims;
-        try {
-            claims = jwtTokenProvider.parseCliams(token);
-        } catch (Exception e) {
-            // parse에 실패한 것을 리턴해준다.
-            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
-            return exchange.getResponse().setComplete();
-        }
+        // 같은 토큰으로 이미 검증한 적이 있으면 만들어 둔 헤더 세트 재사용 (exp 전까지)
+        AuthenticatedHeaderCache.AuthenticatedHeaders userHeaders = headerCache.get(token);
+        if (userHeaders == null) {
+            // String token을 토대로 Claims 객체 생성
+            Claims claims;
+            try {
+                claims = jwtTokenProvider.parseCliams(token);
+            } catch (Exception e) {
+                // parse에 실패한 것을 리턴해준다.
+                stop(sample, RESULT_INVALID_TOKEN);
+                exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                return exchange.getResponse().setComplete();
+            }
 
-        // 사용자의 회원번호, 유저네임, 패스워드 추출
-        String userId = claims.getSubject();
-        String username = claims.get("username", String.class);
-        String nickname = claims.get("nickname", String.class);
-        String role = claims.get("role", String.class);
-        String status = claims.get("status", String.class);
+            // 사용자의 회원번호, 유저네임, 닉네임, 역할, 상태 -> X-User-* 헤더 세트
+            userHeaders = headerCache.put(token, claims);
+        }
 
-        // GW에서 각각의 스프링부트로 보낼 요청 준비
+        // GW에서 각각의 스프링부트로 보낼 요청 준비 (헤더 5개를 한 번에 적용)
         ServerHttpRequest mutated =
                 exchange
                         .getRequest()
                         .mutate()
-                        .header("X-User-Id", userId)
-                        .header("X-Username", username)
-                        .header("X-Nickname", nickname)
-                        .header("X-User-Role", role)
-                        .header("X-User-Status", status)
+                        .headers(userHeaders)
                         .build();
 
         ServerWebExchange mutatedExchange
                 = exchange.mutate().request(mutated).build();
 
+        stop(sample, RESULT_AUTHENTICATED);
         return chain.filter(mutatedExchange);
     }
 
+    // 필터 자체 처리 시간만 기록 (chain.filter 이후의 업스트림 지연은 spring.cloud.gateway.requests에서 측정)
+    private void stop(Timer.Sample sample, String result) {
+        sample.stop(timers.get(result));
+    }
+
+    // StaleCache 필터(-2)가 X-User-Id로 캐시 키를 만들 수 있도록 그보다 먼저 실행
     @Override
     public int getOrder() {
-        return -1;
+        return -10;
     }
 }
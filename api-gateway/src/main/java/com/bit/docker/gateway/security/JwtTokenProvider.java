@@ -1,6 +1,7 @@
 package com.bit.docker.gateway.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -11,19 +12,18 @@ import java.security.Key;
 
 @Component
 public class JwtTokenProvider {
-    private final Key key;
+    // 요청마다 parser를 새로 만들지 않도록 한 번만 생성 (thread-safe)
+    private final JwtParser parser;
 
     public JwtTokenProvider(@Value("${jwt.secret}") String secret) {
         String base64 = java.util.Base64.getEncoder().encodeToString(secret.getBytes());
         byte[] keyBytes = Decoders.BASE64.decode(base64);
-        this.key = Keys.hmacShaKeyFor(keyBytes);
+        Key key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     public Claims parseCliams(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return parser
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -0,0 +1,68 @@
+package com.bit.docker.gateway.security;
+
+import java.util.Arrays;
+
+/**
+ * 화이트리스트 경로 prefix 매칭 (path.startsWith(w) 와 동일한 의미)
+ * - 생성 시 whitelist를 문자 단위 trie로 미리 구성
+ * - 요청마다 whitelist 전체를 순회하지 않고 경로를 한 번만 훑음
+ */
+public class WhitelistPathMatcher {
+    private final Node root = new Node();
+
+    public WhitelistPathMatcher(Iterable<String> prefixes) {
+        for (String prefix : prefixes) {
+            if (prefix == null || prefix.isBlank()) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.childOrCreate(prefix.charAt(i));
+            }
+            node.terminal = true;
+        }
+    }
+
+    // path가 whitelist 중 하나로 시작하면 true
+    public boolean matches(String path) {
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                return false;
+            }
+            if (node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 분기 수가 적으므로(대부분 1) 작은 배열을 선형 탐색
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private boolean terminal;
+
+        Node child(char c) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node childOrCreate(char c) {
+            Node child = child(c);
+            if (child == null) {
+                child = new Node();
+                labels = Arrays.copyOf(labels, labels.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                labels[labels.length - 1] = c;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
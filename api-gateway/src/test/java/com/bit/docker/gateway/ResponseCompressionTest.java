@@ -0,0 +1,231 @@
+package com.bit.docker.gateway;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.compression.Brotli;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GW 응답 압축 설정 확인 (server.compression)
+ * - 실제로 기동한 GW 서버에서 대표 응답(목록 페이지, 매칭 결과)을 내려 Content-Encoding과 전송 크기를 확인
+ * - min-response-size(1KB) 미만의 단건 응답은 압축하지 않는 것도 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ResponseCompressionTest {
+    private static final String[] WORDS = {
+        "검정색", "지갑", "학생증", "에어팟", "케이스", "도서관", "3층", "열람실", "공학관", "강의실",
+        "분실했습니다", "카드", "신분증이", "들어있어요", "파란색", "우산", "노트북", "충전기", "학생회관", "식당",
+        "근처에서", "잃어버렸습니다", "연락", "부탁드립니다", "사례하겠습니다", "기숙사", "체육관", "운동화", "가방", "안에"
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    private WebTestClient webTestClient;
+
+    // 대표 응답을 그대로 내려주는 테스트 전용 엔드포인트 (GW 서버의 압축 설정을 그대로 거침)
+    @TestConfiguration
+    static class SampleResponses {
+        @Bean
+        RouterFunction<ServerResponse> compressionSamples() {
+            return RouterFunctions.route()
+                .GET("/test/compression/list", request -> json(lostItemPage(20)))
+                .GET("/test/compression/matching", request -> json(matchingResults(10)))
+                .GET("/test/compression/count", request -> json(Map.of("count", 1234L)))
+                .build();
+        }
+
+        private static Mono<ServerResponse> json(Object body) {
+            try {
+                return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(OBJECT_MAPPER.writeValueAsBytes(body));
+            } catch (Exception e) {
+                return Mono.error(e);
+            }
+        }
+    }
+
+    // 기본 커넥터는 압축을 직접 협상하고 풀어버리므로, 받은 그대로 보는 HttpClient로 연결
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient
+            .bindToServer(new ReactorClientHttpConnector(HttpClient.create()))
+            .baseUrl("http://localhost:" + port)
+            .build();
+    }
+
+    @Test
+    void listPageIsCompressed() throws Exception {
+        int rawSize = OBJECT_MAPPER.writeValueAsBytes(lostItemPage(20)).length;
+
+        EntityExchangeResult<byte[]> result = get("/test/compression/list", "gzip");
+
+        assertTrue("gzip".equals(encoding(result)), "목록 응답은 gzip으로 압축되어야 합니다");
+        assertTrue(size(result) < rawSize / 2, "목록 응답은 절반 이하로 줄어야 합니다");
+    }
+
+    @Test
+    void matchingResultIsCompressed() throws Exception {
+        int rawSize = OBJECT_MAPPER.writeValueAsBytes(matchingResults(10)).length;
+
+        EntityExchangeResult<byte[]> result = get("/test/compression/matching", "gzip");
+
+        assertTrue("gzip".equals(encoding(result)), "매칭 응답은 gzip으로 압축되어야 합니다");
+        assertTrue(size(result) < rawSize / 2, "매칭 응답은 절반 이하로 줄어야 합니다");
+    }
+
+    @Test
+    void brotliIsNegotiatedWhenAvailable() throws Exception {
+        Assumptions.assumeTrue(Brotli.isAvailable(), "brotli4j 네이티브 라이브러리가 없는 플랫폼");
+        int rawSize = OBJECT_MAPPER.writeValueAsBytes(lostItemPage(20)).length;
+
+        EntityExchangeResult<byte[]> result = get("/test/compression/list", "br, gzip");
+
+        // Netty 기본 품질(4)에서는 gzip과 비슷한 수준 - 협상 여부와 감소율만 확인
+        assertTrue("br".equals(encoding(result)), "br을 받는 클라이언트에는 br로 압축되어야 합니다");
+        assertTrue(size(result) < rawSize / 2, "목록 응답은 절반 이하로 줄어야 합니다");
+    }
+
+    @Test
+    void smallResponseIsNotCompressed() throws Exception {
+        int rawSize = OBJECT_MAPPER.writeValueAsBytes(Map.of("count", 1234L)).length;
+
+        EntityExchangeResult<byte[]> result = get("/test/compression/count", "gzip");
+
+        assertNull(encoding(result));
+        assertTrue(size(result) == rawSize, "1KB 미만 응답은 그대로 전송되어야 합니다");
+    }
+
+    // ==================== 헬퍼 메서드 ====================
+
+    // 압축을 풀지 않으므로 받은 바이트 수가 곧 전송 크기
+    private EntityExchangeResult<byte[]> get(String uri, String acceptEncoding) {
+        return webTestClient.get().uri(uri)
+            .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .returnResult();
+    }
+
+    private String encoding(EntityExchangeResult<byte[]> result) {
+        return result.getResponseHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+    }
+
+    private int size(EntityExchangeResult<byte[]> result) {
+        byte[] body = result.getResponseBody();
+        assertNotNull(body);
+        return body.length;
+    }
+
+    // Page<LostItemResponse> 형태의 대표 응답
+    private static Map<String, Object> lostItemPage(int size) {
+        Random random = new Random(42);
+        List<Map<String, Object>> content = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            content.add(lostItem(random, i + 1));
+        }
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("content", content);
+        page.put("pageable", Map.of("pageNumber", 0, "pageSize", size, "offset", 0, "paged", true, "unpaged", false));
+        page.put("totalElements", 1342);
+        page.put("totalPages", 68);
+        page.put("last", false);
+        page.put("size", size);
+        page.put("number", 0);
+        page.put("first", true);
+        page.put("numberOfElements", size);
+        page.put("empty", false);
+        return page;
+    }
+
+    // List<MatchingResponse> 형태의 대표 응답 (분실/습득 DTO 포함)
+    private static List<Map<String, Object>> matchingResults(int size) {
+        Random random = new Random(7);
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> matching = new LinkedHashMap<>();
+            matching.put("lostId", 100L);
+            matching.put("foundId", 200L + i);
+            matching.put("score", 75 - i * 5);
+            matching.put("reason", "카테고리 일치, 장소 근접, 날짜 근접(2일 차이), 키워드 2개 일치");
+            matching.put("lostItem", lostItem(random, 100));
+            matching.put("foundItem", foundItem(random, 200 + i));
+            results.add(matching);
+        }
+        return results;
+    }
+
+    private static Map<String, Object> lostItem(Random random, long id) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("id", id);
+        item.put("userId", 10 + random.nextInt(500));
+        item.put("category", "WALLET");
+        item.put("title", sentence(random, 5));
+        item.put("description", sentence(random, 60));
+        item.put("lostAt", "2025-03-0" + (1 + random.nextInt(9)) + "T14:30:00");
+        item.put("lostPlace", sentence(random, 3));
+        item.put("reward", 10000);
+        item.put("status", "OPEN");
+        item.put("createdAt", "2025-03-10T09:12:44.123456");
+        item.put("updatedAt", "2025-03-10T09:12:44.123456");
+        return item;
+    }
+
+    private static Map<String, Object> foundItem(Random random, long id) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("id", id);
+        item.put("ownerUserId", 10 + random.nextInt(500));
+        item.put("category", "WALLET");
+        item.put("title", sentence(random, 5));
+        item.put("description", sentence(random, 40));
+        item.put("foundAt", "2025-03-0" + (1 + random.nextInt(9)) + "T11:00:00");
+        item.put("foundPlace", sentence(random, 3));
+        item.put("storageType", "OFFICE");
+        item.put("storageLocation", "학생회관 1층 관리실");
+        item.put("status", "STORED");
+        item.put("createdAt", "2025-03-10T09:12:44.123456");
+        item.put("updatedAt", "2025-03-10T09:12:44.123456");
+        item.put("requiresSecurityCheck", true);
+        return item;
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package com.bit.docker.gateway.resilience;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * StaleCache 필터 + fallback 응답
+ * - fallback이 내보낸 stale 응답은 다시 보관하지 않아야 저장 시각(age)이 유지되고 max-stale이 끝남
+ */
+class StaleCacheGatewayFilterFactoryTest {
+    private static final String PATH = "/api/lost";
+    private static final String BODY = "{\"content\":[{\"id\":1,\"title\":\"검정색 지갑\"}]}";
+
+    private final FallbackProperties fallbackProperties = new FallbackProperties();
+    private final StaleResponseCache staleResponseCache = new StaleResponseCache(fallbackProperties);
+    private final FallbackResponder fallbackResponder = new FallbackResponder(staleResponseCache, fallbackProperties);
+    private final GatewayFilter filter =
+            new StaleCacheGatewayFilterFactory(staleResponseCache).apply(new StaleCacheGatewayFilterFactory.Config());
+
+    @Test
+    void successfulResponseIsStored() {
+        MockServerWebExchange exchange = exchange();
+
+        filter.filter(exchange, this::respondFromUpstream).block();
+
+        StaleResponseCache.Entry entry = staleResponseCache.get(key(exchange));
+        assertNotNull(entry);
+        assertEquals(BODY, new String(entry.body(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void fallbackDoesNotRenewStoredEntry() throws InterruptedException {
+        MockServerWebExchange first = exchange();
+        filter.filter(first, this::respondFromUpstream).block();
+        String key = key(first);
+        Instant storedAt = staleResponseCache.get(key).storedAt();
+
+        Thread.sleep(50);
+
+        // 서킷 OPEN -> forward:/fallback/{routeId} 와 같은 경로 (감싼 response로 stale 응답 작성)
+        MockServerWebExchange second = exchange();
+        GatewayFilterChain fallback = exchange -> fallbackResponder.respond(exchange, "lost-service");
+        filter.filter(second, fallback).block();
+
+        assertEquals("STALE", second.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals(BODY, second.getResponse().getBodyAsString().block());
+
+        StaleResponseCache.Entry entry = staleResponseCache.get(key);
+        assertNotNull(entry);
+        assertEquals(storedAt, entry.storedAt());
+        assertTrue(entry.age().compareTo(Duration.ofMillis(50)) >= 0, "fallback 후에도 age가 이어져야 합니다");
+    }
+
+    // ==================== 헬퍼 메서드 ====================
+
+    private MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(PATH).header("X-User-Id", "7"));
+    }
+
+    private String key(MockServerWebExchange exchange) {
+        return StaleCacheGatewayFilterFactory.cacheKey(exchange.getRequest());
+    }
+
+    // NettyWriteResponseFilter 대신 다운스트림 성공 응답을 감싼 response에 씀
+    private Mono<Void> respondFromUpstream(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        response.getHeaders().set(HttpHeaders.CONTENT_LENGTH, String.valueOf(body.length));
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+}
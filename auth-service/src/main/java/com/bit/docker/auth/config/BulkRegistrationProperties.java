@@ -0,0 +1,28 @@
+package com.bit.docker.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 일괄 회원 등록 설정 (auth.bulk-registration.*)
+@Component
+@ConfigurationProperties(prefix = "auth.bulk-registration")
+@Getter
+@Setter
+public class BulkRegistrationProperties {
+
+    // 한 번에 중복 확인/해싱/INSERT 하는 행 수 (청크마다 진행 상황 전송)
+    private int chunkSize = 100;
+
+    // 요청 하나에 허용하는 최대 행 수
+    private int maxRows = 20_000;
+
+    // 일괄 등록 전용 해싱 스레드 수 (0이면 CPU 코어 수)
+    private int hashingThreads = 0;
+
+    // 전체 처리 제한 시간 (spring.mvc.async.request-timeout 대신 적용)
+    private Duration timeout = Duration.ofMinutes(30);
+}
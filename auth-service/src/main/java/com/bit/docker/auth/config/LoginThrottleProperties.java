@@ -0,0 +1,30 @@
+package com.bit.docker.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 로그인 실패 제한 설정 (auth.login-throttle.*)
+@Component
+@ConfigurationProperties(prefix = "auth.login-throttle")
+@Getter
+@Setter
+public class LoginThrottleProperties {
+
+    // 실패 횟수를 세는 구간 (sliding window)
+    private Duration window = Duration.ofMinutes(10);
+
+    // 구간 내 허용 실패 횟수 - 아이디 기준 / IP 기준
+    private int maxFailuresPerUsername = 5;
+    private int maxFailuresPerIp = 50;
+
+    // 허용 횟수 초과 시 차단 시간: base * 2^(초과 횟수), 최대 maxBackoff
+    private Duration baseBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofMinutes(15);
+
+    // 아이디/IP 별로 추적하는 최대 개수
+    private int maxEntries = 100_000;
+}
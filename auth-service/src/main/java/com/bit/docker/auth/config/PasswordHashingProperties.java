@@ -0,0 +1,29 @@
+package com.bit.docker.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// BCrypt 전용 작업 풀 설정 (auth.password-hashing.*)
+@Component
+@ConfigurationProperties(prefix = "auth.password-hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+
+    // 신규 해시의 BCrypt cost (다른 cost로 저장된 해시는 로그인 성공 시 재해싱)
+    // 값은 BCryptCostCalibrator(./gradlew calibrateBcrypt)로 측정해서 정할 것
+    private int bcryptStrength = 10;
+
+    // 동시에 해싱하는 스레드 수 (CPU 바운드이므로 기본값 = 코어 수)
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+
+    // 대기열 길이 (가득 차면 429)
+    private int queueCapacity = 100;
+
+    // 429 응답의 Retry-After
+    private Duration retryAfter = Duration.ofSeconds(2);
+}
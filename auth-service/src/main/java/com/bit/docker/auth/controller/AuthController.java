@@ -1,45 +1,80 @@
 package com.bit.docker.auth.controller;
 
 import com.bit.docker.auth.dto.request.LoginRequest;
+import com.bit.docker.auth.dto.request.RefreshTokenRequest;
 import com.bit.docker.auth.dto.request.RegisterRequest;
 import com.bit.docker.auth.dto.response.LoginResponse;
 import com.bit.docker.auth.dto.response.UserResponse;
 import com.bit.docker.auth.model.User;
+import com.bit.docker.auth.model.UserRole;
 import com.bit.docker.auth.model.UserStatus;
 import com.bit.docker.auth.repository.UserRepository;
+import com.bit.docker.auth.config.PasswordHashingProperties;
 import com.bit.docker.auth.security.JwtTokenProvider;
+import com.bit.docker.auth.security.LoginAttemptThrottler;
+import com.bit.docker.auth.security.LoginThrottledException;
+import com.bit.docker.auth.security.PasswordHashingBusyException;
+import com.bit.docker.auth.security.PasswordHashingExecutor;
+import com.bit.docker.auth.service.BulkRegistrationBusyException;
+import com.bit.docker.auth.service.BulkRegistrationService;
+import com.bit.docker.auth.service.RefreshTokenService;
+import com.bit.docker.readmodel.user.UserReadModel;
+import com.bit.docker.readmodel.user.UserView;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/auth")
 @AllArgsConstructor
 public class AuthController {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserReadModel userReadModel;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final PasswordHashingProperties passwordHashingProperties;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginAttemptThrottler loginAttemptThrottler;
+    private final BulkRegistrationService bulkRegistrationService;
+    // MVC 비동기 처리용 기본 풀 (Spring Boot가 등록, 이름으로 주입)
+    private final AsyncTaskExecutor applicationTaskExecutor;
 
+    // 비밀번호 해싱은 전용 작업 풀에서 수행 (톰캣 스레드는 즉시 반환)
+    // DB 조회는 해싱 전에 끝내서 해싱 중에는 커넥션을 잡고 있지 않음 (open-in-view: false)
+    // 저장은 MVC 작업 풀에서 - 해싱 풀 스레드는 해싱만 하고 바로 반환
     @PostMapping("/register")
-    @Transactional
-    public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
+    public CompletableFuture<ResponseEntity<?>> register(@RequestBody RegisterRequest request) {
         // 1. 중복 체크
         if (userRepository.existsByUsername(request.getUsername())) {
-            return ResponseEntity.status(HttpStatus.CONFLICT).body("이미 존재하는 아이디입니다");
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.CONFLICT).body("이미 존재하는 아이디입니다"));
         }
 
-        // 2. User 엔티티 생성 (새 필드들 포함)
+        // 2. 비밀번호 해싱 후 User 엔티티 생성 (새 필드들 포함)
+        return passwordHashingExecutor.encode(request.getPassword())
+                .thenApplyAsync(encodedPassword -> createUser(request, encodedPassword), applicationTaskExecutor);
+    }
+
+    private ResponseEntity<?> createUser(RegisterRequest request, String encodedPassword) {
         User user = new User();
         user.setUsername(request.getUsername());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(encodedPassword);
         user.setNickname(request.getNickname());
         user.setRole(request.getRole());
         user.setStatus(UserStatus.ACTIVE);
@@ -51,43 +86,157 @@ public class AuthController {
         return ResponseEntity.status(HttpStatus.CREATED).body(UserResponse.from(saved));
     }
 
+    // 일괄 등록 (관리자) - CSV(text/csv, 첫 줄 헤더) 또는 NDJSON(application/x-ndjson)
+    // 행 단위 오류/청크별 진행 상황/최종 요약을 NDJSON으로 스트리밍 (잘못된 행이 있어도 나머지는 계속 등록)
+    @PostMapping(value = "/users/bulk",
+            consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> registerBulk(
+            @RequestHeader(value = "X-User-Role", required = false) String role,
+            HttpServletRequest httpRequest) throws IOException {
+        // Role이 ADMIN인지 확인
+        if (!"ADMIN".equals(role)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        BulkRegistrationService.Format format =
+                MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(httpRequest.getContentType()))
+                        ? BulkRegistrationService.Format.NDJSON
+                        : BulkRegistrationService.Format.CSV;
+
+        ResponseBodyEmitter emitter = bulkRegistrationService.start(httpRequest.getInputStream(), format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(emitter);
+    }
+
     @PostMapping("/login")
-    @Transactional
-    public ResponseEntity<?> login(@RequestBody LoginRequest request) {
-        // 1. 사용자 찾기
-        Optional<User> optionalUser = userRepository.findByUsername(request.getUsername());
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody LoginRequest request,
+                                                      HttpServletRequest httpRequest) {
+        // 0. 실패 횟수 초과로 차단 중이면 DB 조회/BCrypt 없이 바로 429
+        String clientIp = clientIp(httpRequest);
+        loginAttemptThrottler.check(request.getUsername(), clientIp);
+
+        // 1. 사용자 찾기 - 읽기 모델 캐시 우선, 미스일 때만 DB (조회가 끝나면 커넥션 반환)
+        Optional<UserView> optionalUser = userReadModel.findByUsername(request.getUsername());
+        if (optionalUser.isEmpty()) {
+            loginAttemptThrottler.recordFailure(request.getUsername(), clientIp);
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("아이디 또는 비밀번호가 틀렸습니다"));
+        }
+
+        // 2. 비밀번호 확인 (해싱 작업 풀)
+        UserView user = optionalUser.get();
+        return passwordHashingExecutor.verify(request.getPassword(), user.password())
+                .thenApply(check -> {
+                    if (!check.matched()) {
+                        loginAttemptThrottler.recordFailure(request.getUsername(), clientIp);
+                        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("아이디 또는 비밀번호가 틀렸습니다");
+                    }
+                    loginAttemptThrottler.recordSuccess(request.getUsername());
+
+                    // 저장된 해시의 알고리즘/cost가 현재 설정과 다르면 새 해시로 교체
+                    if (check.upgradedPassword() != null) {
+                        upgradePassword(user, check.upgradedPassword());
+                    }
+                    return ResponseEntity.ok(issueTokens(user));
+                });
+    }
+
+    // 액세스 토큰 재발급 - 비밀번호 해싱 없이 리프레시 토큰으로 (사용한 리프레시 토큰은 교체)
+    // 정지된 사용자의 리프레시 토큰은 정지 알림(/internal/user-status)으로 폐기되어 여기서 401
+    // role 등 그 밖의 변경은 캐시 TTL(user-read-model.ttl) 이내의 재발급부터 반영됨
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshTokenRequest request) {
+        Long userId;
+        try {
+            userId = refreshTokenService.consume(request.getRefreshToken());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+
+        Optional<UserView> optionalUser = userReadModel.findById(userId);
         if (optionalUser.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("아이디 또는 비밀번호가 틀렸습니다");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("사용자를 찾을 수 없습니다");
         }
+        return ResponseEntity.ok(issueTokens(optionalUser.get()));
+    }
+
+    // 로그아웃 - 리프레시 토큰 폐기 (액세스 토큰은 짧은 만료 시간으로 자연 만료)
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody RefreshTokenRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
 
-        // 2. 비밀번호 확인
-        User user = optionalUser.get();
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("아이디 또는 비밀번호가 틀렸습니다");
+    // 재해싱 저장 실패는 로그인 결과에 영향 없음 (다음 로그인 때 다시 시도)
+    // 저장 후 캐시된 옛 해시는 버림
+    private void upgradePassword(UserView user, String upgradedPassword) {
+        try {
+            userRepository.updatePassword(user.id(), user.password(), upgradedPassword);
+            userReadModel.invalidate(user.id());
+        } catch (Exception e) {
+            System.err.println("비밀번호 재해싱 저장 실패: userId=" + user.id() + ", " + e.getMessage());
         }
+    }
 
+    private LoginResponse issueTokens(UserView user) {
         // 3. 정지된 사용자도 로그인은 허용 (글 등록/인계 요청/메시지는 각 서비스에서 차단)
         // 상태를 토큰에 포함하여 각 서비스에서 체크할 수 있도록 함
 
         // 4. 토큰 생성 (role, status 포함!)
+        UserRole role = UserRole.valueOf(user.role());
+        UserStatus status = UserStatus.valueOf(user.status());
         String token = jwtTokenProvider.createToken(
-            user.getId(),
-            user.getUsername(),
-            user.getNickname(),
-            user.getRole(),
-            user.getStatus()
+            user.id(),
+            user.username(),
+            user.nickname(),
+            role,
+            status
         );
 
         // 5. 응답
         LoginResponse response = new LoginResponse();
         response.setToken(token);
-        response.setId(user.getId());
-        response.setUsername(user.getUsername());
-        response.setNickname(user.getNickname());
-        response.setRole(user.getRole());
-        response.setStatus(user.getStatus()); // 프론트엔드에서 상태 확인 가능
+        response.setRefreshToken(refreshTokenService.issue(user.id()));
+        response.setId(user.id());
+        response.setUsername(user.username());
+        response.setNickname(user.nickname());
+        response.setRole(role);
+        response.setStatus(status); // 프론트엔드에서 상태 확인 가능
 
-        return ResponseEntity.ok(response);
+        return response;
+    }
+
+    // 해싱 대기열 포화 -> 429 + Retry-After
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<String> handleHashingBusy(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER,
+                        String.valueOf(passwordHashingProperties.getRetryAfter().toSeconds()))
+                .body(e.getMessage());
     }
-}
 
+    // 로그인 실패 횟수 초과 -> 429 + Retry-After
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<String> handleLoginThrottled(LoginThrottledException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(e.getMessage());
+    }
+
+    // 이미 일괄 등록 진행 중 -> 409
+    @ExceptionHandler(BulkRegistrationBusyException.class)
+    public ResponseEntity<String> handleBulkRegistrationBusy(BulkRegistrationBusyException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    // GW가 X-Forwarded-For 끝에 붙인 주소가 실제 접속 IP (앞쪽 값은 클라이언트가 조작 가능)
+    private String clientIp(HttpServletRequest httpRequest) {
+        String forwardedFor = httpRequest.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            String[] addresses = forwardedFor.split(",");
+            return addresses[addresses.length - 1].trim();
+        }
+        return httpRequest.getRemoteAddr();
+    }
+}
@@ -0,0 +1,32 @@
+package com.bit.docker.auth.controller;
+
+import com.bit.docker.auth.dto.request.UserStatusChangedRequest;
+import com.bit.docker.auth.service.RefreshTokenService;
+import com.bit.docker.readmodel.user.UserReadModel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 서비스 간 내부 호출 전용 (GW 라우트 없음)
+@RestController
+@RequestMapping("/internal/user-status")
+@RequiredArgsConstructor
+public class InternalUserStatusController {
+    private final RefreshTokenService refreshTokenService;
+    private final UserReadModel userReadModel;
+
+    // User 서비스의 정지/해제 알림
+    // 정지 -> 리프레시 토큰 전부 폐기 (남은 액세스 토큰은 짧은 만료 시간으로 자연 만료)
+    // 캐시된 사용자 정보는 정지/해제 모두 버려서 다음 로그인부터 새 상태로 토큰 발급
+    @PostMapping
+    public ResponseEntity<Void> userStatusChanged(@RequestBody UserStatusChangedRequest request) {
+        if (request.isBlocked()) {
+            refreshTokenService.revokeAll(request.getUserId());
+        }
+        userReadModel.invalidate(request.getUserId());
+        return ResponseEntity.noContent().build();
+    }
+}
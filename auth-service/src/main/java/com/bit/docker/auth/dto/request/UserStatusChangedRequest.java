@@ -0,0 +1,15 @@
+package com.bit.docker.auth.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// User 서비스가 정지/해제 시 보내는 알림
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStatusChangedRequest {
+    private Long userId;
+    private boolean blocked;
+    private long version;
+}
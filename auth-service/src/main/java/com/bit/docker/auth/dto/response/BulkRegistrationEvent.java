@@ -0,0 +1,35 @@
+package com.bit.docker.auth.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 일괄 등록 진행 상황 (NDJSON 한 줄)
+// type: error(행 단위 실패) / progress(청크 완료) / summary(전체 완료)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkRegistrationEvent {
+    private String type;
+    private Long line;
+    private String username;
+    private String reason;
+    private Long processed;
+    private Long created;
+    private Long failed;
+    private Long elapsedMillis;
+
+    public static BulkRegistrationEvent error(long line, String username, String reason) {
+        return new BulkRegistrationEvent("error", line, username, reason, null, null, null, null);
+    }
+
+    public static BulkRegistrationEvent progress(long processed, long created, long failed) {
+        return new BulkRegistrationEvent("progress", null, null, null, processed, created, failed, null);
+    }
+
+    public static BulkRegistrationEvent summary(long processed, long created, long failed, long elapsedMillis) {
+        return new BulkRegistrationEvent("summary", null, null, null, processed, created, failed, elapsedMillis);
+    }
+}
@@ -0,0 +1,54 @@
+package com.bit.docker.auth.repository;
+
+import com.bit.docker.auth.model.User;
+import com.bit.docker.readmodel.user.UserView;
+import com.bit.docker.readmodel.user.UserViewLoader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// 공용 사용자 읽기 모델(UserReadModel)의 캐시 미스 시 DB 조회
+@Component
+@RequiredArgsConstructor
+public class JpaUserViewLoader implements UserViewLoader {
+    private final UserRepository userRepository;
+
+    @Override
+    public Optional<UserView> loadById(Long id) {
+        return userRepository.findById(id).map(JpaUserViewLoader::toView);
+    }
+
+    @Override
+    public Optional<UserView> loadByUsername(String username) {
+        return userRepository.findByUsername(username).map(JpaUserViewLoader::toView);
+    }
+
+    // 캐시에 없는 ID만 쿼리 한 번으로 조회
+    @Override
+    public Map<Long, UserView> loadAllById(Collection<Long> ids) {
+        Map<Long, UserView> result = new HashMap<>();
+        for (User user : userRepository.findAllById(ids)) {
+            result.put(user.getId(), toView(user));
+        }
+        return result;
+    }
+
+    private static UserView toView(User user) {
+        return new UserView(
+            user.getId(),
+            user.getUsername(),
+            user.getPassword(),
+            user.getNickname(),
+            user.getRole() != null ? user.getRole().name() : null,
+            user.getStatus() != null ? user.getStatus().name() : null,
+            user.getAffiliation() != null ? user.getAffiliation().name() : null,
+            user.getPhone(),
+            user.getEmail(),
+            user.getCreatedAt()
+        );
+    }
+}
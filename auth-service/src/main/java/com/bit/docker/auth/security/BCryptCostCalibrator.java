@@ -0,0 +1,48 @@
+package com.bit.docker.auth.security;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * 현재 하드웨어에서 목표 지연 시간에 맞는 BCrypt cost 측정 도구
+ * - cost 4부터 올려가며 해싱 1회 평균 시간을 측정, 목표 이하인 가장 큰 cost를 추천
+ * - 결과를 auth.password-hashing.bcrypt-strength 에 반영하면 기존 해시는 로그인 시 재해싱됨
+ * 실행: ./gradlew calibrateBcrypt -PtargetMillis=250
+ */
+public class BCryptCostCalibrator {
+    private static final int MIN_COST = 4;
+    private static final int MAX_COST = 16;
+    private static final int SAMPLES = 5;
+
+    public static void main(String[] args) {
+        long targetMillis = args.length > 0 ? Long.parseLong(args[0]) : 250L;
+        String password = "campusfinder-calibration";
+
+        // JIT 워밍업
+        for (int i = 0; i < 10; i++) {
+            BCrypt.hashpw(password, BCrypt.gensalt(MIN_COST));
+        }
+
+        System.out.printf("target=%dms, cores=%d%n", targetMillis, Runtime.getRuntime().availableProcessors());
+        int recommended = MIN_COST;
+        for (int cost = MIN_COST; cost <= MAX_COST; cost++) {
+            double avgMillis = measure(password, cost);
+            System.out.printf("cost=%2d  avg=%8.1fms%n", cost, avgMillis);
+            if (avgMillis > targetMillis) {
+                break;
+            }
+            recommended = cost;
+        }
+        System.out.printf("recommended bcrypt-strength=%d%n", recommended);
+    }
+
+    private static double measure(String password, int cost) {
+        String salt = BCrypt.gensalt(cost);
+        long total = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(password, salt);
+            total += System.nanoTime() - start;
+        }
+        return total / (double) SAMPLES / 1_000_000.0;
+    }
+}
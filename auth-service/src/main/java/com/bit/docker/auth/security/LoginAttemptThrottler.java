@@ -0,0 +1,125 @@
+package com.bit.docker.auth.security;
+
+import com.bit.docker.auth.config.LoginThrottleProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 실패 제한 (아이디별 + IP별)
+ * - 실패 횟수는 sliding window(직전 구간 가중치 + 현재 구간)로 계산
+ * - 허용 횟수를 넘으면 지수 백오프로 차단 시간 증가
+ * - check()는 메모리 조회만 하므로 DB 조회/BCrypt 전에 호출
+ * - 카운터는 Atomic 값만 사용 (락 없음), 맵 크기는 maxEntries로 제한
+ */
+@Component
+public class LoginAttemptThrottler {
+    private final LoginThrottleProperties properties;
+    private final Map<String, AttemptCounter> usernames = new ConcurrentHashMap<>();
+    private final Map<String, AttemptCounter> ips = new ConcurrentHashMap<>();
+
+    public LoginAttemptThrottler(LoginThrottleProperties properties) {
+        this.properties = properties;
+    }
+
+    // 차단 중이면 LoginThrottledException
+    public void check(String username, String ip) {
+        long now = System.currentTimeMillis();
+        long blockedMillis = Math.max(
+                blockedMillis(usernames, normalize(username), now),
+                blockedMillis(ips, ip, now));
+        if (blockedMillis > 0) {
+            throw new LoginThrottledException(Math.max(1, (blockedMillis + 999) / 1000));
+        }
+    }
+
+    public void recordFailure(String username, String ip) {
+        long now = System.currentTimeMillis();
+        recordFailure(usernames, normalize(username), properties.getMaxFailuresPerUsername(), now);
+        recordFailure(ips, ip, properties.getMaxFailuresPerIp(), now);
+    }
+
+    // 로그인 성공 시 아이디 기준 카운터만 초기화 (IP는 여러 사용자가 공유할 수 있으므로 유지)
+    public void recordSuccess(String username) {
+        String key = normalize(username);
+        if (key != null) {
+            usernames.remove(key);
+        }
+    }
+
+    private long blockedMillis(Map<String, AttemptCounter> counters, String key, long now) {
+        if (key == null) {
+            return 0;
+        }
+        AttemptCounter counter = counters.get(key);
+        return counter != null ? counter.blockedUntil.get() - now : 0;
+    }
+
+    private void recordFailure(Map<String, AttemptCounter> counters, String key, int maxFailures, long now) {
+        if (key == null) {
+            return;
+        }
+        AttemptCounter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() >= properties.getMaxEntries()) {
+                evict(counters, now);
+            }
+            counter = counters.computeIfAbsent(key, k -> new AttemptCounter(now));
+        }
+
+        double failures = counter.increment(now, properties.getWindow().toMillis());
+        int excess = (int) Math.ceil(failures) - maxFailures;
+        if (excess > 0) {
+            long backoff = properties.getBaseBackoff().toMillis() << Math.min(excess - 1, 30);
+            long blockedUntil = now + Math.min(backoff, properties.getMaxBackoff().toMillis());
+            counter.blockedUntil.accumulateAndGet(blockedUntil, Math::max);
+        }
+    }
+
+    // 두 구간 이상 실패가 없고 차단도 끝난 항목부터 제거, 그래도 가득 차면 차단 중이 아닌 항목 제거
+    private void evict(Map<String, AttemptCounter> counters, long now) {
+        long idleBefore = now - properties.getWindow().toMillis() * 2;
+        counters.values().removeIf(c -> c.blockedUntil.get() <= now && c.windowStart.get() < idleBefore);
+        if (counters.size() >= properties.getMaxEntries()) {
+            counters.values().removeIf(c -> c.blockedUntil.get() <= now);
+        }
+    }
+
+    private static String normalize(String username) {
+        return username == null || username.isBlank() ? null : username.trim().toLowerCase();
+    }
+
+    // 직전 구간 / 현재 구간 실패 수 (구간 시작 시각 기준으로 CAS 회전)
+    private static final class AttemptCounter {
+        private final AtomicLong windowStart;
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger previous = new AtomicInteger();
+        private final AtomicLong blockedUntil = new AtomicLong();
+
+        AttemptCounter(long now) {
+            this.windowStart = new AtomicLong(now);
+        }
+
+        // 실패 1회 추가 후 sliding window 실패 수 반환
+        double increment(long now, long windowMillis) {
+            long start = windowStart.get();
+            long elapsed = now - start;
+            if (elapsed >= windowMillis) {
+                // 구간 회전: 한 구간만 지났으면 현재 -> 직전, 그 이상이면 둘 다 초기화
+                long newStart = start + (elapsed / windowMillis) * windowMillis;
+                if (windowStart.compareAndSet(start, newStart)) {
+                    int last = current.getAndSet(0);
+                    previous.set(elapsed < windowMillis * 2 ? last : 0);
+                }
+                start = windowStart.get();
+                elapsed = now - start;
+            }
+            int count = current.incrementAndGet();
+            double previousWeight = 1.0 - Math.min(1.0, Math.max(0, elapsed) / (double) windowMillis);
+            return previous.get() * previousWeight + count;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.bit.docker.auth.security;
+
+// 로그인 실패 횟수 초과로 일시 차단 (-> 429)
+public class LoginThrottledException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        super("로그인 시도가 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
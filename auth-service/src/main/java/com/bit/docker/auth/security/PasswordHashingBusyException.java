@@ -0,0 +1,8 @@
+package com.bit.docker.auth.security;
+
+// 해싱 대기열이 가득 차서 요청을 받을 수 없음 (-> 429)
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException() {
+        super("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요");
+    }
+}
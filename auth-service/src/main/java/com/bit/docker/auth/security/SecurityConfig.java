@@ -1,21 +1,32 @@
 package com.bit.docker.auth.security;
 
+import com.bit.docker.auth.config.PasswordHashingProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
 public class SecurityConfig {
+    private static final String BCRYPT_ID = "bcrypt";
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth->auth
-                        .requestMatchers("/api/auth/register","/api/auth/login").permitAll()
+                        .requestMatchers("/api/auth/register","/api/auth/login","/api/auth/refresh","/api/auth/logout").permitAll()
+                        // GW에서 인증 후 X-User-Role 전달 (ADMIN 확인은 컨트롤러에서)
+                        .requestMatchers("/api/auth/users/bulk").permitAll()
+                        // 서비스 간 내부 호출 (user-service의 정지/해제 알림, GW 라우트 없음)
+                        .requestMatchers("/internal/user-status").permitAll()
                         .anyRequest().authenticated()
                 )
                 .httpBasic(Customizer.withDefaults());
@@ -23,8 +34,16 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // 해시 앞에 알고리즘 ID를 기록 ({bcrypt}$2a$10$...)
+    // - ID가 없는 기존 해시는 기본 BCrypt로 검증 후 로그인 시 {bcrypt} 형식으로 재해싱
+    // - cost가 설정값과 다른 해시도 로그인 시 재해싱
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT_ID, new TargetCostBCryptPasswordEncoder(properties.getBcryptStrength()));
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return passwordEncoder;
     }
 }
@@ -0,0 +1,34 @@
+package com.bit.docker.auth.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 목표 cost와 저장된 해시의 cost가 다르면 재해싱 대상으로 판단하는 BCrypt 인코더
+ * - 기본 BCryptPasswordEncoder는 cost가 낮을 때만 upgrade → 설정을 낮춘 경우에도 맞춰지도록 "다르면" 으로 판단
+ */
+public class TargetCostBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    // $2a$10$... / $2b$12$... / $2y$..
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+
+    public TargetCostBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return true;
+        }
+        return Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
@@ -0,0 +1,8 @@
+package com.bit.docker.auth.service;
+
+// 이미 다른 일괄 등록이 진행 중 (한 번에 하나만 처리)
+public class BulkRegistrationBusyException extends RuntimeException {
+    public BulkRegistrationBusyException() {
+        super("이미 진행 중인 일괄 등록이 있습니다. 잠시 후 다시 시도해주세요");
+    }
+}
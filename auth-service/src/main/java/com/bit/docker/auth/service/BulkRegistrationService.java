@@ -0,0 +1,428 @@
+package com.bit.docker.auth.service;
+
+import com.bit.docker.auth.config.BulkRegistrationProperties;
+import com.bit.docker.auth.dto.request.RegisterRequest;
+import com.bit.docker.auth.dto.response.BulkRegistrationEvent;
+import com.bit.docker.auth.model.Affiliation;
+import com.bit.docker.auth.model.UserRole;
+import com.bit.docker.auth.model.UserStatus;
+import com.bit.docker.auth.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일괄 회원 등록 (학기 초 학생/교직원 가져오기)
+ * - CSV(첫 줄 헤더) 또는 NDJSON을 한 줄씩 읽어 청크 단위로 처리 (전체를 메모리에 올리지 않음)
+ * - 청크마다: 중복 아이디 확인 쿼리 1번 -> 비밀번호 병렬 해싱 -> JDBC batch INSERT
+ * - 잘못된 행은 error 이벤트로 알리고 건너뜀 (나머지 행은 계속 처리)
+ * - 결과는 NDJSON으로 스트리밍 (error / progress / summary)
+ */
+@Service
+public class BulkRegistrationService {
+    private static final String INSERT_SQL =
+            "INSERT INTO users (username, password, nickname, role, status, affiliation, phone, email, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    public enum Format { CSV, NDJSON }
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final BulkRegistrationProperties properties;
+
+    // 가져오기는 한 번에 하나만 (대기열 없음 -> 진행 중이면 즉시 거절)
+    private final ThreadPoolExecutor importExecutor;
+    // 일괄 등록 전용 해싱 풀 - 로그인용 PasswordHashingExecutor 대기열을 채우지 않도록 분리
+    private final ExecutorService hashingExecutor;
+
+    public BulkRegistrationService(UserRepository userRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   PasswordEncoder passwordEncoder,
+                                   ObjectMapper objectMapper,
+                                   BulkRegistrationProperties properties) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+
+        this.importExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), daemonThreads("bulk-registration-"), new ThreadPoolExecutor.AbortPolicy());
+
+        int threads = properties.getHashingThreads() > 0
+                ? properties.getHashingThreads()
+                : Runtime.getRuntime().availableProcessors();
+        this.hashingExecutor = Executors.newFixedThreadPool(threads, daemonThreads("bulk-hashing-"));
+    }
+
+    // 요청 본문을 백그라운드에서 읽으며 진행 상황을 emitter로 전송
+    public ResponseBodyEmitter start(InputStream body, Format format) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(properties.getTimeout().toMillis());
+        try {
+            importExecutor.execute(() -> run(body, format, emitter));
+        } catch (RejectedExecutionException e) {
+            throw new BulkRegistrationBusyException();
+        }
+        return emitter;
+    }
+
+    private void run(InputStream body, Format format, ResponseBodyEmitter emitter) {
+        try {
+            process(body, format, event -> send(emitter, event));
+            emitter.complete();
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 끊김 - 남은 행은 처리하지 않음
+            System.err.println("일괄 등록 중단 (응답 전송 실패): " + e.getMessage());
+            emitter.completeWithError(e);
+        } catch (Exception e) {
+            System.err.println("일괄 등록 중단: " + e.getMessage());
+            try {
+                send(emitter, new BulkRegistrationEvent("error", null, null, "일괄 등록 중단: " + e.getMessage(),
+                        null, null, null, null));
+                emitter.complete();
+            } catch (UncheckedIOException ignored) {
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private void process(InputStream body, Format format, EventSink sink) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        Counters counters = new Counters();
+        Set<String> seenUsernames = new HashSet<>();
+        List<Row> chunk = new ArrayList<>(properties.getChunkSize());
+        Map<String, Integer> header = null;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                line = line.substring(1);  // 엑셀에서 저장한 UTF-8 CSV의 BOM
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && header == null) {
+                header = parseHeader(line);
+                continue;
+            }
+            if (counters.processed + chunk.size() >= properties.getMaxRows()) {
+                sink.send(BulkRegistrationEvent.error(lineNumber, null,
+                        "한 번에 최대 " + properties.getMaxRows() + "건까지 등록할 수 있습니다. 이후 행은 처리하지 않았습니다"));
+                break;
+            }
+
+            try {
+                RegisterRequest request = format == Format.CSV
+                        ? fromCsv(header, parseCsvLine(line))
+                        : objectMapper.readValue(line, RegisterRequest.class);
+                chunk.add(new Row(lineNumber, request));
+            } catch (IllegalArgumentException e) {
+                counters.fail(sink, BulkRegistrationEvent.error(lineNumber, null, e.getMessage()));
+            } catch (IOException e) {
+                counters.fail(sink, BulkRegistrationEvent.error(lineNumber, null, "형식이 올바르지 않습니다"));
+            }
+
+            if (chunk.size() >= properties.getChunkSize()) {
+                flush(chunk, seenUsernames, counters, sink);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flush(chunk, seenUsernames, counters, sink);
+        }
+
+        sink.send(BulkRegistrationEvent.summary(counters.processed, counters.created, counters.failed,
+                System.currentTimeMillis() - startedAt));
+    }
+
+    // 청크 처리: 검증 -> 중복 확인(쿼리 1번) -> 병렬 해싱 -> batch INSERT
+    private void flush(List<Row> chunk, Set<String> seenUsernames, Counters counters, EventSink sink) {
+        List<Row> valid = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            String error = validate(row.request());
+            if (error == null && !seenUsernames.add(row.request().getUsername())) {
+                error = "파일 안에서 중복된 아이디입니다";
+            }
+            if (error != null) {
+                counters.fail(sink, BulkRegistrationEvent.error(row.line(), row.request().getUsername(), error));
+            } else {
+                valid.add(row);
+            }
+        }
+
+        if (!valid.isEmpty()) {
+            Set<String> existing = new HashSet<>(userRepository.findExistingUsernames(
+                    valid.stream().map(row -> row.request().getUsername()).toList()));
+            List<Row> toInsert = new ArrayList<>(valid.size());
+            for (Row row : valid) {
+                if (existing.contains(row.request().getUsername())) {
+                    counters.fail(sink, BulkRegistrationEvent.error(row.line(), row.request().getUsername(),
+                            "이미 존재하는 아이디입니다"));
+                } else {
+                    toInsert.add(row);
+                }
+            }
+
+            if (!toInsert.isEmpty()) {
+                insert(toInsert, hashPasswords(toInsert), counters, sink);
+            }
+        }
+
+        sink.send(BulkRegistrationEvent.progress(counters.processed, counters.created, counters.failed));
+    }
+
+    // BCrypt는 행마다 수십 ms - 코어 수만큼 동시에
+    private List<String> hashPasswords(List<Row> rows) {
+        List<CompletableFuture<String>> futures = rows.stream()
+                .map(row -> CompletableFuture.supplyAsync(
+                        () -> passwordEncoder.encode(row.request().getPassword()), hashingExecutor))
+                .toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    // 청크 전체를 한 트랜잭션의 batch INSERT로 (rewriteBatchedStatements=true 이면 multi-row INSERT 한 번)
+    // 그 사이 다른 요청이 같은 아이디로 가입했다면 청크가 롤백되므로 행 단위로 다시 저장해 실패 행만 골라냄
+    private void insert(List<Row> rows, List<String> passwords, Counters counters, EventSink sink) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> params = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            params.add(toParams(rows.get(i).request(), passwords.get(i), now));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, params));
+            counters.processed += rows.size();
+            counters.created += rows.size();
+            return;
+        } catch (DataIntegrityViolationException e) {
+            System.err.println("일괄 INSERT 실패, 행 단위로 재시도: " + e.getMessage());
+        }
+
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            try {
+                jdbcTemplate.update(INSERT_SQL, params.get(i));
+                counters.processed++;
+                counters.created++;
+            } catch (DuplicateKeyException e) {
+                counters.fail(sink, BulkRegistrationEvent.error(row.line(), row.request().getUsername(),
+                        "이미 존재하는 아이디입니다"));
+            } catch (DataIntegrityViolationException e) {
+                counters.fail(sink, BulkRegistrationEvent.error(row.line(), row.request().getUsername(),
+                        "저장에 실패했습니다"));
+            }
+        }
+    }
+
+    private Object[] toParams(RegisterRequest request, String encodedPassword, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return new Object[]{
+                request.getUsername(),
+                encodedPassword,
+                request.getNickname(),
+                request.getRole().name(),
+                UserStatus.ACTIVE.name(),
+                request.getAffiliation() != null ? request.getAffiliation().name() : null,
+                request.getPhone(),
+                request.getEmail(),
+                timestamp,
+                timestamp
+        };
+    }
+
+    // users 테이블 제약(NOT NULL, 길이)을 INSERT 전에 확인 - 한 행 때문에 청크 전체가 실패하지 않도록
+    private String validate(RegisterRequest request) {
+        if (isBlank(request.getUsername())) {
+            return "아이디는 필수입니다";
+        }
+        if (request.getUsername().length() > 50) {
+            return "아이디는 50자 이하여야 합니다";
+        }
+        if (isBlank(request.getPassword())) {
+            return "비밀번호는 필수입니다";
+        }
+        if (isBlank(request.getNickname())) {
+            return "닉네임은 필수입니다";
+        }
+        if (request.getNickname().length() > 50) {
+            return "닉네임은 50자 이하여야 합니다";
+        }
+        if (request.getRole() == null) {
+            return "역할은 필수입니다";
+        }
+        if (request.getPhone() != null && request.getPhone().length() > 20) {
+            return "전화번호는 20자 이하여야 합니다";
+        }
+        if (request.getEmail() != null && request.getEmail().length() > 100) {
+            return "이메일은 100자 이하여야 합니다";
+        }
+        return null;
+    }
+
+    // ==================== CSV ====================
+
+    // 헤더 이름으로 열 위치를 찾음 (열 순서는 자유, 대소문자 무시)
+    private Map<String, Integer> parseHeader(String line) {
+        List<String> columns = parseCsvLine(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim().toLowerCase(), i);
+        }
+        if (!header.containsKey("username") || !header.containsKey("password")) {
+            throw new IllegalArgumentException("CSV 첫 줄에 username, password 등 헤더가 필요합니다");
+        }
+        return header;
+    }
+
+    private RegisterRequest fromCsv(Map<String, Integer> header, List<String> values) {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(column(header, values, "username"));
+        request.setPassword(column(header, values, "password"));
+        request.setNickname(column(header, values, "nickname"));
+        request.setPhone(column(header, values, "phone"));
+        request.setEmail(column(header, values, "email"));
+
+        String role = column(header, values, "role");
+        if (role != null) {
+            try {
+                request.setRole(UserRole.valueOf(role.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("유효하지 않은 역할입니다: " + role);
+            }
+        }
+        String affiliation = column(header, values, "affiliation");
+        if (affiliation != null) {
+            try {
+                request.setAffiliation(Affiliation.valueOf(affiliation.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("유효하지 않은 소속입니다: " + affiliation);
+            }
+        }
+        return request;
+    }
+
+    private String column(Map<String, Integer> header, List<String> values, String name) {
+        Integer index = header.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // 쉼표 구분 + 큰따옴표 묶음("a,b", "" -> ") 지원, 한 행은 한 줄
+    private List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    // ==================== 헬퍼 ====================
+
+    private void send(ResponseBodyEmitter emitter, BulkRegistrationEvent event) {
+        try {
+            emitter.send(objectMapper.writeValueAsString(event) + "\n", MediaType.APPLICATION_NDJSON);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        importExecutor.shutdownNow();
+        hashingExecutor.shutdownNow();
+    }
+
+    private record Row(long line, RegisterRequest request) {
+    }
+
+    private interface EventSink {
+        void send(BulkRegistrationEvent event);
+    }
+
+    private static class Counters {
+        private long processed;
+        private long created;
+        private long failed;
+
+        private void fail(EventSink sink, BulkRegistrationEvent event) {
+            processed++;
+            failed++;
+            sink.send(event);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.bit.docker.auth.service;
+
+import com.bit.docker.auth.model.RefreshToken;
+import com.bit.docker.auth.repository.RefreshTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리프레시 토큰 발급 / 회전 / 폐기
+ * - DB(refresh_tokens)에는 토큰 해시만 저장, 조회는 메모리 인덱스(해시 -> userId, 만료시각) 우선
+ * - 인덱스에 있으면 SELECT 없이 DELETE 한 번, 만료된 토큰은 DB에 가지 않고 거절 (행은 purgeExpired가 정리)
+ * - 인덱스는 인스턴스별 - 다른 인스턴스가 발급한 토큰은 DB로 확인
+ * - 사용할 때마다 새 토큰으로 교체(rotation) - 한 번 사용한 토큰은 다시 쓸 수 없음
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Map<String, IndexEntry> index = new ConcurrentHashMap<>();
+
+    @Value("${jwt.refresh-expiration-millis}")
+    private long refreshExpirationMillis;
+
+    // 기동 시 유효한 토큰만 메모리 인덱스로 적재
+    @PostConstruct
+    public void loadIndex() {
+        for (RefreshToken token : refreshTokenRepository.findByExpiresAtAfter(LocalDateTime.now())) {
+            index.put(token.getTokenHash(), new IndexEntry(token.getUserId(), token.getExpiresAt()));
+        }
+    }
+
+    // 새 리프레시 토큰 발급 (원문은 응답으로만 전달)
+    public String issue(Long userId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken token = new RefreshToken();
+        token.setTokenHash(hash(rawToken));
+        token.setUserId(userId);
+        token.setExpiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshExpirationMillis)));
+        refreshTokenRepository.save(token);
+
+        index.put(token.getTokenHash(), new IndexEntry(userId, token.getExpiresAt()));
+        return rawToken;
+    }
+
+    /**
+     * 토큰 사용 (회전): 유효하면 폐기하고 userId 반환
+     * - 없는 토큰 / 만료 / 이미 사용된 토큰이면 예외
+     * - 만료 여부는 DELETE 전에 판단해 만료 토큰에는 쓰기 쿼리를 보내지 않음
+     */
+    public Long consume(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new IllegalArgumentException("리프레시 토큰이 없습니다");
+        }
+        String tokenHash = hash(rawToken);
+
+        IndexEntry entry = index.get(tokenHash);
+        if (entry == null) {
+            // 다른 인스턴스에서 발급된 토큰일 수 있으므로 DB 확인
+            entry = refreshTokenRepository.findByTokenHash(tokenHash)
+                    .map(token -> new IndexEntry(token.getUserId(), token.getExpiresAt()))
+                    .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다"));
+        }
+
+        index.remove(tokenHash);
+        if (entry.expiresAt().isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("만료된 리프레시 토큰입니다");
+        }
+        if (refreshTokenRepository.deleteByTokenHash(tokenHash) == 0) {
+            throw new IllegalArgumentException("이미 사용된 리프레시 토큰입니다");
+        }
+        return entry.userId();
+    }
+
+    // 로그아웃 - 해당 토큰만 폐기
+    public void revoke(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return;
+        }
+        String tokenHash = hash(rawToken);
+        index.remove(tokenHash);
+        refreshTokenRepository.deleteByTokenHash(tokenHash);
+    }
+
+    // 사용자의 모든 리프레시 토큰 폐기 (정지 시 user-service 알림으로 호출)
+    public void revokeAll(Long userId) {
+        index.values().removeIf(entry -> entry.userId().equals(userId));
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    // 만료 토큰 정리 (10분마다)
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge-interval-millis:600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        index.values().removeIf(entry -> entry.expiresAt().isBefore(now));
+        refreshTokenRepository.deleteExpired(now);
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record IndexEntry(Long userId, LocalDateTime expiresAt) {
+    }
+}
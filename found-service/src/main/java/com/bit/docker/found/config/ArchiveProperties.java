@@ -0,0 +1,22 @@
+package com.bit.docker.found.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 완료 건 보관 처리 설정 (archive.*) - 실행 주기는 archive.interval-millis
+@Component
+@ConfigurationProperties(prefix = "archive")
+@Getter
+@Setter
+public class ArchiveProperties {
+
+    private boolean enabled = true;
+
+    // 완료(마지막 수정) 후 이 기간이 지나면 보관 테이블로 이동
+    private int retentionDays = 90;
+
+    // 한 트랜잭션에서 옮기는 행 수 (잠금 시간을 짧게)
+    private int chunkSize = 200;
+}
@@ -0,0 +1,39 @@
+package com.bit.docker.found.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * found_items(title, description) FULLTEXT 인덱스 생성 (ngram 파서 - 한글 2글자 단위)
+ * - JPA(ddl-auto)로는 FULLTEXT 인덱스를 만들 수 없으므로 기동 시 없으면 생성
+ * - 테이블은 EntityManagerFactory 초기화 때 만들어지므로 ApplicationRunner 시점에는 존재
+ * - lost-service에 테이블 이름만 다른 같은 구현 (공유 모듈 없음 - 수정 시 함께 변경)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextIndexInitializer implements ApplicationRunner {
+    public static final String INDEX_NAME = "ft_found_items_title_description";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND table_name = 'found_items' AND index_name = ?",
+            Integer.class, INDEX_NAME);
+        if (count != null && count > 0) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        jdbcTemplate.execute("ALTER TABLE found_items ADD FULLTEXT INDEX " + INDEX_NAME
+            + " (title, description) WITH PARSER ngram");
+        log.info("FULLTEXT 인덱스 생성 완료: {} ({}ms)", INDEX_NAME, System.currentTimeMillis() - startedAt);
+    }
+}
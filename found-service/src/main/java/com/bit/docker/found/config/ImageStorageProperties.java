@@ -0,0 +1,36 @@
+package com.bit.docker.found.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+// 습득물 이미지 저장 설정 (found.images.*)
+@Component
+@ConfigurationProperties(prefix = "found.images")
+@Getter
+@Setter
+public class ImageStorageProperties {
+
+    // 원본/썸네일 저장 루트 디렉터리 ({rootDir}/{foundId}/...)
+    private String rootDir = "./data/found-images";
+
+    // 이미지 한 장 최대 크기
+    private DataSize maxFileSize = DataSize.ofMegabytes(10);
+
+    // 습득물 하나에 올릴 수 있는 최대 이미지 수
+    private int maxImagesPerItem = 5;
+
+    // 목록/카드용 썸네일 가로 크기 (px)
+    private List<Integer> thumbnailWidths = List.of(240, 640);
+
+    // 썸네일 생성 스레드 수 / 대기열 크기 (가득 차면 해당 이미지는 원본으로 대체 제공)
+    private int thumbnailThreads = 2;
+    private int thumbnailQueueCapacity = 200;
+
+    // 썸네일을 만들 원본의 최대 픽셀 수 (가로 x 세로) - 작은 파일로 거대한 해상도를 선언한 이미지 방어
+    private long thumbnailMaxSourcePixels = 50_000_000L;
+}
@@ -0,0 +1,223 @@
+package com.bit.docker.found.controller;
+
+import com.bit.docker.found.config.ImageStorageProperties;
+import com.bit.docker.found.dto.response.FoundImageResponse;
+import com.bit.docker.found.service.FoundImageService;
+import com.bit.docker.found.service.ImageFile;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/found")
+@RequiredArgsConstructor
+public class FoundImageController {
+    // Tomcat sendfile 요청 속성 (커넥터가 FileChannel.transferTo로 소켓에 직접 전송)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 이미지 URL의 내용은 바뀌지 않음 (내용 주소 ETag) - 브라우저/중간 캐시가 다시 받지 않도록
+    private static final String CACHE_IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String CACHE_REVALIDATE = "no-cache";
+
+    private final FoundImageService foundImageService;
+    private final ImageStorageProperties properties;
+
+    // 이미지 등록 (multipart) - file-size-threshold 0이라 파트는 디스크 임시 파일에서 스트림으로 읽음
+    @PostMapping(value = "/{id}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<FoundImageResponse> uploadImage(
+        @PathVariable Long id,
+        @RequestHeader("X-User-Id") Long userId,
+        @RequestHeader("X-User-Role") String role,
+        @RequestHeader("X-User-Status") String userStatus,
+        @RequestParam("file") MultipartFile file
+    ) throws IOException {
+        // 정지된 사용자는 이미지 등록 불가 (A3)
+        if ("BLOCKED".equals(userStatus)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try (InputStream content = file.getInputStream()) {
+            FoundImageResponse response =
+                foundImageService.uploadImage(id, userId, role, file.getOriginalFilename(), content);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+    }
+
+    // 이미지 등록 (본문 그대로 전송) - 요청 본문을 바로 파일 채널로 기록
+    @PostMapping(value = "/{id}/images",
+                 consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE})
+    public ResponseEntity<FoundImageResponse> uploadImageStream(
+        @PathVariable Long id,
+        @RequestParam(required = false) String fileName,
+        @RequestHeader("X-User-Id") Long userId,
+        @RequestHeader("X-User-Role") String role,
+        @RequestHeader("X-User-Status") String userStatus,
+        HttpServletRequest request
+    ) throws IOException {
+        // 정지된 사용자는 이미지 등록 불가 (A3)
+        if ("BLOCKED".equals(userStatus)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        // Content-Length로 알 수 있으면 본문을 읽기 전에 거절
+        if (request.getContentLengthLong() > properties.getMaxFileSize().toBytes()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        FoundImageResponse response =
+            foundImageService.uploadImage(id, userId, role, fileName, request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // 습득물 이미지 목록
+    @GetMapping("/{id}/images")
+    public ResponseEntity<List<FoundImageResponse>> getImages(@PathVariable Long id) {
+        return ResponseEntity.ok(foundImageService.getImages(id));
+    }
+
+    // 이미지 파일 - w: 썸네일 가로 크기 (없거나 아직 생성 전이면 원본), Range 요청 지원 (단일 구간)
+    @GetMapping("/{id}/images/{imageId}")
+    public void getImage(
+        @PathVariable Long id,
+        @PathVariable Long imageId,
+        @RequestParam(required = false) Integer w,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        ImageFile file = foundImageService.getImageFile(id, imageId, w);
+        if (file.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, file.etag());
+            response.setHeader(HttpHeaders.CACHE_CONTROL, file.immutable() ? CACHE_IMMUTABLE : CACHE_REVALIDATE);
+            if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), file.etag())) {
+                response.setStatus(HttpStatus.NOT_MODIFIED.value());
+                return;
+            }
+        }
+
+        long length;
+        try {
+            length = Files.size(file.path());
+        } catch (NoSuchFileException e) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        boolean partial = false;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        // If-Range가 현재 ETag와 다르면 (다른 내용을 이어 받으려는 경우) 전체 전송
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(file.etag())) {
+            range = null;
+        }
+        // 여러 구간이나 형식이 잘못된 Range는 무시하고 전체 전송
+        if (range != null && range.startsWith("bytes=") && range.indexOf(',') < 0) {
+            String spec = range.substring("bytes=".length()).trim();
+            int dash = spec.indexOf('-');
+            try {
+                if (dash == 0) {
+                    // bytes=-N : 마지막 N바이트
+                    long suffix = Long.parseLong(spec.substring(1));
+                    start = suffix > 0 ? Math.max(0, length - suffix) : length;
+                    partial = true;
+                } else if (dash > 0) {
+                    start = Long.parseLong(spec.substring(0, dash));
+                    if (dash < spec.length() - 1) {
+                        end = Math.min(Long.parseLong(spec.substring(dash + 1)), length - 1);
+                    }
+                    partial = true;
+                }
+            } catch (NumberFormatException e) {
+                start = 0;
+                end = length - 1;
+                partial = false;
+            }
+            if (start >= length || start > end) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+        }
+
+        response.setContentType(file.mimeType());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (partial) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+
+        // 커넥터가 sendfile을 지원하면 본문은 Tomcat이 직접 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        // 그 외 (h2c 등): 파일 채널에서 응답 스트림 채널로 transferTo
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                long transferred = channel.transferTo(position, end + 1 - position, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    // 이미지 삭제 - 같은 사진을 쓰는 다른 이미지가 없으면 파일도 삭제
+    @DeleteMapping("/{id}/images/{imageId}")
+    public ResponseEntity<Void> deleteImage(
+        @PathVariable Long id,
+        @PathVariable Long imageId,
+        @RequestHeader("X-User-Id") Long userId,
+        @RequestHeader("X-User-Role") String role,
+        @RequestHeader("X-User-Status") String userStatus
+    ) {
+        // 정지된 사용자는 삭제 불가 (A3)
+        if ("BLOCKED".equals(userStatus)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        foundImageService.deleteImage(id, imageId, userId, role);
+        return ResponseEntity.noContent().build();
+    }
+
+    // If-None-Match: "*" 또는 쉼표로 구분된 ETag 목록 (약한 비교)
+    private boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if ("*".equals(value) || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,16 +1,32 @@
 package com.bit.docker.found.controller;
 
 import com.bit.docker.found.dto.request.FoundItemCreateRequest;
+import com.bit.docker.found.dto.request.FoundItemBatchRequest;
+import com.bit.docker.found.dto.request.FoundItemFilterRequest;
 import com.bit.docker.found.dto.request.FoundItemUpdateRequest;
+import com.bit.docker.found.dto.response.ChangeFeedResponse;
+import com.bit.docker.found.dto.response.FoundItemFilterResponse;
+import com.bit.docker.found.dto.response.CursorPage;
 import com.bit.docker.found.dto.response.FoundItemResponse;
+import com.bit.docker.found.dto.response.FoundItemSearchResponse;
+import com.bit.docker.found.model.Category;
+import com.bit.docker.found.repository.FoundItemSummary;
+import com.bit.docker.found.model.FoundStatus;
+import com.bit.docker.found.service.ChangeFeed;
+import com.bit.docker.found.service.StatusConflictException;
 import com.bit.docker.found.service.FoundItemService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -19,6 +35,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class FoundItemController {
     private final FoundItemService foundItemService;
+    private final ChangeFeed changeFeed;
     
     // 습득물 등록
     @PostMapping
@@ -43,6 +60,59 @@ public class FoundItemController {
         return ResponseEntity.ok(response);
     }
     
+    // 습득물 목록 (커서 기반 무한 스크롤) - GET /feed?status=&after=&limit=
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPage<FoundItemResponse>> getFoundItemFeed(
+        @RequestParam(required = false) FoundStatus status,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        CursorPage<FoundItemResponse> response = foundItemService.getFoundItemFeed(status, after, limit);
+        return ResponseEntity.ok(response);
+    }
+    
+    // 보관된 습득물 목록 (완료 후 보관 기간이 지난 건) - GET /archive?page=&size=
+    @GetMapping("/archive")
+    public ResponseEntity<Page<FoundItemResponse>> getArchivedFoundItems(Pageable pageable) {
+        Page<FoundItemResponse> response = foundItemService.getArchivedFoundItems(pageable);
+        return ResponseEntity.ok(response);
+    }
+    
+    // 변경 피드 - sinceSeq 이후 변경 기록 (없으면 waitMillis 동안 대기, long-polling)
+    // GET /changes?sinceSeq=&limit=&waitMillis= -> 응답의 nextSeq를 다음 sinceSeq로 사용
+    @GetMapping("/changes")
+    public DeferredResult<ChangeFeedResponse> getChanges(
+        @RequestParam(defaultValue = "0") long sinceSeq,
+        @RequestParam(defaultValue = "100") int limit,
+        @RequestParam(defaultValue = "20000") long waitMillis
+    ) {
+        return changeFeed.poll(sinceSeq, limit, waitMillis);
+    }
+    
+    // 습득물 검색 (관련도 순) - GET /search?q=&category=&status=&from=&to=&page=&size=
+    @GetMapping("/search")
+    public ResponseEntity<Slice<FoundItemSearchResponse>> searchFoundItems(
+        @RequestParam String q,
+        @RequestParam(required = false) Category category,
+        @RequestParam(required = false) FoundStatus status,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        Pageable pageable
+    ) {
+        Slice<FoundItemSearchResponse> response = foundItemService.searchFoundItems(q, category, status, from, to, pageable);
+        return ResponseEntity.ok(response);
+    }
+    
+    // 습득물 조합 필터 + 패싯 개수 - GET /filter?category=&status=&place=&from=&to=&page=&size=&sort=
+    @GetMapping("/filter")
+    public ResponseEntity<FoundItemFilterResponse> filterFoundItems(
+        @ModelAttribute FoundItemFilterRequest filter,
+        Pageable pageable
+    ) {
+        FoundItemFilterResponse response = foundItemService.filterFoundItems(filter, pageable);
+        return ResponseEntity.ok(response);
+    }
+    
     // 내 습득물 목록
     @GetMapping("/my")
     public ResponseEntity<List<FoundItemResponse>> getMyFoundItems(
@@ -52,6 +122,13 @@ public class FoundItemController {
         return ResponseEntity.ok(response);
     }
     
+    // 습득물 일괄 조회 (다른 서비스에서 호출) - { id: {ownerUserId, category, title, ...} }
+    @PostMapping("/batch")
+    public ResponseEntity<Map<Long, FoundItemSummary>> getFoundItemSummaries(@RequestBody FoundItemBatchRequest request) {
+        Map<Long, FoundItemSummary> response = foundItemService.getFoundItemSummaries(request.getIds());
+        return ResponseEntity.ok(response);
+    }
+    
     // 습득물 상세
     @GetMapping("/{id}")
     public ResponseEntity<FoundItemResponse> getFoundItem(@PathVariable Long id) {
@@ -108,17 +185,22 @@ public class FoundItemController {
     }
 
     // 상태 업데이트 (Handover에서 호출)
+    // expected가 있으면 현재 상태가 그 중 하나일 때만 변경 - PUT /{id}/status?expected=A,B (아니면 409)
     @PutMapping("/{id}/status")
     public ResponseEntity<Void> updateStatus(
         @PathVariable Long id,
+        @RequestParam(required = false) List<FoundStatus> expected,
         @RequestBody Map<String, String> request
     ) {
-        String status = request.get("status");
-        com.bit.docker.found.model.FoundStatus foundStatus = com.bit.docker.found.model.FoundStatus.valueOf(status);
-        foundItemService.updateStatus(id, foundStatus);
+        FoundStatus status = FoundStatus.valueOf(request.get("status"));
+        if (expected == null || expected.isEmpty()) {
+            foundItemService.updateStatus(id, status);
+        } else {
+            foundItemService.compareAndSetStatus(id, expected, status);
+        }
         return ResponseEntity.ok().build();
     }
-
+    
     // 통계 (Admin에서 호출)
     @GetMapping("/count")
     public ResponseEntity<Map<String, Long>> getCount(
@@ -128,4 +210,18 @@ public class FoundItemController {
         long count = foundItemService.countByDateRange(startDate, endDate);
         return ResponseEntity.ok(Map.of("count", count));
     }
+
+    // 조건부 상태 변경 실패 -> 409 (현재 상태 포함)
+    @ExceptionHandler(StatusConflictException.class)
+    public ResponseEntity<Map<String, String>> handleStatusConflict(StatusConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(Map.of("message", e.getMessage(), "currentStatus", e.getCurrentStatus().name()));
+    }
+
+    // 동시 수정 충돌 (version 불일치) -> 409
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLock(ObjectOptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(Map.of("message", "다른 요청이 먼저 수정했습니다. 다시 조회 후 시도해주세요."));
+    }
 }
@@ -0,0 +1,14 @@
+package com.bit.docker.found.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoundItemBatchRequest {
+    private List<Long> ids;
+}
@@ -0,0 +1,26 @@
+package com.bit.docker.found.dto.request;
+
+import com.bit.docker.found.model.Category;
+import com.bit.docker.found.model.FoundStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// 습득물 조합 필터 (모두 선택 항목)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoundItemFilterRequest {
+    private Category category;
+    private FoundStatus status;
+    private String place;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+}
@@ -0,0 +1,17 @@
+package com.bit.docker.found.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 변경 피드 응답 - nextSeq: 다음 요청의 sinceSeq 값 (변경이 없으면 요청한 sinceSeq 그대로)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedResponse {
+    private List<FoundItemChangeResponse> changes;
+    private Long nextSeq;
+    private boolean hasMore;
+}
@@ -0,0 +1,18 @@
+package com.bit.docker.found.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 커서 기반 목록 응답 (전체 개수 없음)
+// nextCursor: 다음 요청의 after 값 ("createdAt,id"), 마지막 페이지면 null
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
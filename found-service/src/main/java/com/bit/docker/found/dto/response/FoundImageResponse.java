@@ -0,0 +1,45 @@
+package com.bit.docker.found.dto.response;
+
+import com.bit.docker.found.model.FoundImage;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoundImageResponse {
+    private Long id;
+    private Long foundId;
+    private String fileName;
+    private Long fileSize;
+    private String mimeType;
+    private Boolean thumbnailsReady;  // false면 썸네일 URL도 원본으로 응답
+    private String url;
+    private Map<Integer, String> thumbnailUrls;  // 가로 크기(px) -> URL
+    private LocalDateTime createdAt;
+
+    public static FoundImageResponse from(FoundImage image, boolean thumbnailsReady, List<Integer> thumbnailWidths) {
+        String url = "/api/found/" + image.getFoundId() + "/images/" + image.getId();
+        Map<Integer, String> thumbnailUrls = new LinkedHashMap<>();
+        for (Integer width : thumbnailWidths) {
+            thumbnailUrls.put(width, url + "?w=" + width);
+        }
+        return new FoundImageResponse(
+            image.getId(),
+            image.getFoundId(),
+            image.getFileName(),
+            image.getFileSize(),
+            image.getMimeType(),
+            thumbnailsReady,
+            url,
+            thumbnailUrls,
+            image.getCreatedAt()
+        );
+    }
+}
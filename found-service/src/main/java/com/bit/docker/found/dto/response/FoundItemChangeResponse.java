@@ -0,0 +1,34 @@
+package com.bit.docker.found.dto.response;
+
+import com.bit.docker.found.model.Category;
+import com.bit.docker.found.model.ChangeType;
+import com.bit.docker.found.model.FoundItemChange;
+import com.bit.docker.found.model.FoundStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoundItemChangeResponse {
+    private Long seq;
+    private Long itemId;
+    private ChangeType changeType;
+    private Category category;
+    private FoundStatus status;
+    private LocalDateTime changedAt;
+
+    public static FoundItemChangeResponse from(FoundItemChange change) {
+        return new FoundItemChangeResponse(
+            change.getSeq(),
+            change.getItemId(),
+            change.getChangeType(),
+            change.getCategory(),
+            change.getStatus(),
+            change.getChangedAt()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.bit.docker.found.dto.response;
+
+import com.bit.docker.found.model.Category;
+import com.bit.docker.found.model.FoundStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+// 조합 필터 결과 + 패싯 개수
+// categoryCounts: 선택한 상태 기준 카테고리별 개수 / statusCounts: 선택한 카테고리 기준 상태별 개수
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoundItemFilterResponse {
+    private Page<FoundItemResponse> items;
+    private Map<Category, Long> categoryCounts;
+    private Map<FoundStatus, Long> statusCounts;
+}
@@ -2,6 +2,7 @@ package com.bit.docker.found.dto.response;
 
 import com.bit.docker.found.model.Category;
 import com.bit.docker.found.model.FoundItem;
+import com.bit.docker.found.model.FoundItemArchive;
 import com.bit.docker.found.model.FoundStatus;
 import com.bit.docker.found.model.StorageType;
 import lombok.AllArgsConstructor;
@@ -45,4 +46,23 @@ public class FoundItemResponse {
             item.getCategory().requiresSecurityCheck()  // 카테고리별 검수 필요 여부
         );
     }
+
+    // 보관 테이블 단건 조회
+    public static FoundItemResponse from(FoundItemArchive item) {
+        return new FoundItemResponse(
+            item.getId(),
+            item.getOwnerUserId(),
+            item.getCategory(),
+            item.getTitle(),
+            item.getDescription(),
+            item.getFoundAt(),
+            item.getFoundPlace(),
+            item.getStorageType(),
+            item.getStorageLocation(),
+            item.getStatus(),
+            item.getCreatedAt(),
+            item.getUpdatedAt(),
+            item.getCategory().requiresSecurityCheck()  // 카테고리별 검수 필요 여부
+        );
+    }
 }
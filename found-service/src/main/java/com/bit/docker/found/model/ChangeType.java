@@ -0,0 +1,9 @@
+package com.bit.docker.found.model;
+
+public enum ChangeType {
+    CREATED,         // 등록
+    UPDATED,         // 내용 수정
+    STATUS_CHANGED,  // 상태 변경
+    DELETED,         // 삭제
+    ARCHIVED         // 보관 테이블로 이동 (단건 조회는 계속 가능)
+}
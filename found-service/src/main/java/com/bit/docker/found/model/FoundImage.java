@@ -7,7 +7,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "found_images")
+@Table(name = "found_images", indexes = {
+    @Index(name = "idx_found_images_found_id", columnList = "foundId")
+})
 @Data
 @NoArgsConstructor
 public class FoundImage {
@@ -30,6 +32,10 @@ public class FoundImage {
     @Column(length = 50)
     private String mimeType;
 
+    // 원본 내용의 SHA-256 (image_blobs 참조)
+    @Column(length = 64)
+    private String sha256;
+
     private LocalDateTime createdAt;
 
     @PrePersist
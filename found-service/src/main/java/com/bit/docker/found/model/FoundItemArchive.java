@@ -0,0 +1,53 @@
+package com.bit.docker.found.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 보관 기간이 지난 인계 완료/폐기 습득물 (found_items에서 옮겨 옴) - 단건/보관 목록 조회만 하므로 인덱스 최소화
+@Entity
+@Table(name = "found_items_archive", indexes = {
+    @Index(name = "idx_found_items_archive_created_id", columnList = "createdAt, id")
+})
+@Data
+@NoArgsConstructor
+public class FoundItemArchive {
+    @Id
+    private Long id;  // found_items의 ID 그대로
+
+    @Column(nullable = false)
+    private Long ownerUserId;  // 습득자 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private Category category;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(nullable = false)
+    private LocalDateTime foundAt;  // 습득 시각
+
+    @Column(nullable = false, length = 200)
+    private String foundPlace;  // 습득 장소
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StorageType storageType;
+
+    @Column(length = 200)
+    private String storageLocation;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FoundStatus status;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime archivedAt;
+}
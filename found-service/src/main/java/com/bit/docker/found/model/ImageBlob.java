@@ -0,0 +1,35 @@
+package com.bit.docker.found.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 이미지 원본 파일 (SHA-256 내용 주소) - 같은 사진을 여러 FoundImage가 공유, refCount가 0이 되면 커밋 후 행과 파일 삭제
+@Entity
+@Table(name = "image_blobs")
+@Data
+@NoArgsConstructor
+public class ImageBlob {
+    @Id
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(nullable = false, length = 500)
+    private String storedPath;
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    @Column(length = 50)
+    private String mimeType;
+
+    @Column(nullable = false)
+    private Integer refCount;
+
+    // 목록용 썸네일 생성 완료 여부 (false면 원본으로 대체 제공)
+    private Boolean thumbnailsReady = false;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,11 @@
+package com.bit.docker.found.repository;
+
+import com.bit.docker.found.model.Category;
+import com.bit.docker.found.model.FoundStatus;
+
+// 보관 처리 대상 (이동 후 패싯 집계/변경 피드 반영용)
+public interface ArchiveCandidate {
+    Long getId();
+    Category getCategory();
+    FoundStatus getStatus();
+}
@@ -0,0 +1,9 @@
+package com.bit.docker.found.repository;
+
+import java.time.LocalDate;
+
+// 등록일별 개수 (DailyCounter 초기 적재/재동기화용)
+public interface DailyCount {
+    LocalDate getCreatedOn();
+    Long getTotal();
+}
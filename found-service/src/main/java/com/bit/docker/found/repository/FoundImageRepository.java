@@ -0,0 +1,12 @@
+package com.bit.docker.found.repository;
+
+import com.bit.docker.found.model.FoundImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface FoundImageRepository extends JpaRepository<FoundImage, Long> {
+    List<FoundImage> findByFoundIdOrderByIdAsc(Long foundId);
+
+    long countByFoundId(Long foundId);
+}
@@ -0,0 +1,12 @@
+package com.bit.docker.found.repository;
+
+import com.bit.docker.found.model.FoundItemArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface FoundItemArchiveRepository extends JpaRepository<FoundItemArchive, Long> {
+    // 일괄 조회에서 본 테이블에 없는 ID 보충 (요약 컬럼만)
+    List<FoundItemSummary> findByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,21 @@
+package com.bit.docker.found.repository;
+
+import com.bit.docker.found.model.FoundItemChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface FoundItemChangeRepository extends JpaRepository<FoundItemChange, Long> {
+
+    // (sinceSeq, untilSeq] 구간 변경 기록 - PK 범위 조회
+    @Query("SELECT c FROM FoundItemChange c WHERE c.seq > :sinceSeq AND c.seq <= :untilSeq ORDER BY c.seq")
+    List<FoundItemChange> findRange(@Param("sinceSeq") long sinceSeq,
+                                   @Param("untilSeq") long untilSeq,
+                                   Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(c.seq), 0) FROM FoundItemChange c")
+    long findMaxSeq();
+}
@@ -7,10 +7,17 @@ import com.bit.docker.found.model.StorageType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface FoundItemRepository extends JpaRepository<FoundItem, Long> {
+public interface FoundItemRepository extends JpaRepository<FoundItem, Long>, JpaSpecificationExecutor<FoundItem> {
     // 습득자별 조회
     List<FoundItem> findByOwnerUserId(Long ownerUserId);
     Page<FoundItem> findByOwnerUserId(Long ownerUserId, Pageable pageable);
@@ -24,11 +31,95 @@ public interface FoundItemRepository extends JpaRepository<FoundItem, Long> {
     // 카테고리별 조회
     Page<FoundItem> findByCategory(Category category, Pageable pageable);
     
-    // 전체 검색
-    Page<FoundItem> findByTitleContainingOrDescriptionContaining(
-        String title, String description, Pageable pageable
-    );
+    // 전문 검색 (제목+설명, FULLTEXT ngram 인덱스) - 관련도 순
+    // 필터는 값이 null이면 적용하지 않음, 전체 개수는 세지 않음 (limit + 1로 다음 페이지 확인)
+    @Query(value = "SELECT i.id AS id, MATCH(i.title, i.description) AGAINST (:query) AS score "
+        + "FROM found_items i "
+        + "WHERE MATCH(i.title, i.description) AGAINST (:query) "
+        + "AND (:category IS NULL OR i.category = :category) "
+        + "AND (:status IS NULL OR i.status = :status) "
+        + "AND (:fromAt IS NULL OR i.found_at >= :fromAt) "
+        + "AND (:toAt IS NULL OR i.found_at < :toAt) "
+        + "ORDER BY score DESC, i.id DESC "
+        + "LIMIT :limit OFFSET :offset",
+        nativeQuery = true)
+    List<SearchHit> search(@Param("query") String query,
+                           @Param("category") String category,
+                           @Param("status") String status,
+                           @Param("fromAt") LocalDateTime fromAt,
+                           @Param("toAt") LocalDateTime toAt,
+                           @Param("limit") int limit,
+                           @Param("offset") long offset);
     
-    // 기간별 통계 (Admin에서 호출)
-    long countByCreatedAtBetween(java.time.LocalDateTime startDate, java.time.LocalDateTime endDate);
+    // 커서 목록 (최신순) - COUNT 없이 Pageable은 LIMIT으로만 사용
+    // 다음 페이지는 마지막 항목의 (createdAt, id) 보다 앞선 것부터
+    @Query("SELECT i FROM FoundItem i ORDER BY i.createdAt DESC, i.id DESC")
+    List<FoundItem> findFeed(Pageable pageable);
+
+    @Query("SELECT i FROM FoundItem i "
+        + "WHERE i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.id < :id) "
+        + "ORDER BY i.createdAt DESC, i.id DESC")
+    List<FoundItem> findFeedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT i FROM FoundItem i WHERE i.status = :status ORDER BY i.createdAt DESC, i.id DESC")
+    List<FoundItem> findFeedByStatus(@Param("status") FoundStatus status, Pageable pageable);
+
+    @Query("SELECT i FROM FoundItem i "
+        + "WHERE i.status = :status "
+        + "AND (i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.id < :id)) "
+        + "ORDER BY i.createdAt DESC, i.id DESC")
+    List<FoundItem> findFeedByStatusAfter(@Param("status") FoundStatus status,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+
+    // 일괄 조회 (다른 서비스에서 호출) - 요약 컬럼만 IN 쿼리 한 번으로
+    List<FoundItemSummary> findByIdIn(Collection<Long> ids);
+    
+    // 카테고리 x 상태별 개수 (패싯 집계표 적재용)
+    @Query("SELECT i.category AS category, i.status AS status, COUNT(i) AS total FROM FoundItem i GROUP BY i.category, i.status")
+    List<CategoryStatusCount> countGroupByCategoryAndStatus();
+
+    // 등록일별 개수 - 보관 테이블 포함 (일별 집계표 적재용, 이동 중인 행이 빠지거나 겹치지 않도록 한 문장으로)
+    @Query(value = "SELECT t.created_on AS createdOn, SUM(t.total) AS total FROM (" +
+                   "SELECT DATE(created_at) AS created_on, COUNT(*) AS total FROM found_items " +
+                   "WHERE created_at IS NOT NULL GROUP BY DATE(created_at) " +
+                   "UNION ALL " +
+                   "SELECT DATE(created_at) AS created_on, COUNT(*) AS total FROM found_items_archive " +
+                   "WHERE created_at IS NOT NULL GROUP BY DATE(created_at)" +
+                   ") t GROUP BY t.created_on",
+           nativeQuery = true)
+    List<DailyCount> countGroupByCreatedDate();
+
+    // 조건부 상태 변경 (CAS) - 현재 상태가 expected일 때만 UPDATE 한 번으로 변경, version도 올려 엔티티 수정과 충돌 감지
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE FoundItem i SET i.status = :status, i.version = i.version + 1, i.updatedAt = :now " +
+           "WHERE i.id = :id AND i.status = :expected")
+    int compareAndSetStatus(@Param("id") Long id,
+                            @Param("expected") FoundStatus expected,
+                            @Param("status") FoundStatus status,
+                            @Param("now") LocalDateTime now);
+
+    // 보관 대상 (완료 상태로 cutoff 이전에 마지막 수정) - 다른 트랜잭션이 잡고 있는 행은 건너뛰고 잠금
+    @Query(value = "SELECT i.id AS id, i.category AS category, i.status AS status FROM found_items i " +
+                   "WHERE i.status IN (:statuses) AND i.updated_at < :cutoff " +
+                   "ORDER BY i.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<ArchiveCandidate> lockArchiveCandidates(@Param("statuses") Collection<String> statuses,
+                                                 @Param("cutoff") LocalDateTime cutoff,
+                                                 @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO found_items_archive (id, owner_user_id, category, title, description, found_at, found_place, storage_type, storage_location, status, created_at, updated_at, archived_at) " +
+                   "SELECT id, owner_user_id, category, title, description, found_at, found_place, storage_type, storage_location, status, created_at, updated_at, NOW(6) FROM found_items WHERE id IN (:ids)",
+           nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM FoundItem i WHERE i.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // CAS 실패 원인 확인용 현재 상태
+    @Query("SELECT i.status FROM FoundItem i WHERE i.id = :id")
+    Optional<FoundStatus> findStatusById(@Param("id") Long id);
 }
@@ -0,0 +1,46 @@
+package com.bit.docker.found.repository;
+
+import com.bit.docker.found.model.Category;
+import com.bit.docker.found.model.FoundItem;
+import com.bit.docker.found.model.FoundStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+// 습득물 조합 필터 조건 - 값이 없으면 null을 반환해 조건에서 빠짐
+public final class FoundItemSpecifications {
+
+    private FoundItemSpecifications() {
+    }
+
+    public static Specification<FoundItem> hasCategory(Category category) {
+        return category == null ? null : (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    public static Specification<FoundItem> hasStatus(FoundStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    // 장소는 부분 일치 (%, _ 는 문자 그대로 검색)
+    public static Specification<FoundItem> placeContains(String place) {
+        if (place == null || place.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + place.trim()
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(root.get("foundPlace"), pattern, '\\');
+    }
+
+    // 습득일 from ~ to (양 끝 포함)
+    public static Specification<FoundItem> foundAtFrom(LocalDate from) {
+        return from == null ? null
+            : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("foundAt"), from.atStartOfDay());
+    }
+
+    public static Specification<FoundItem> foundAtTo(LocalDate to) {
+        return to == null ? null
+            : (root, query, cb) -> cb.lessThan(root.get("foundAt"), to.plusDays(1).atStartOfDay());
+    }
+}
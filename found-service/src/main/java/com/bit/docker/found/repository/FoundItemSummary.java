@@ -0,0 +1,17 @@
+package com.bit.docker.found.repository;
+
+import com.bit.docker.found.model.Category;
+import com.bit.docker.found.model.FoundStatus;
+
+import java.time.LocalDateTime;
+
+// 다른 서비스의 목록 화면용 요약 (설명 TEXT 등은 읽지 않음)
+public interface FoundItemSummary {
+    Long getId();
+    Long getOwnerUserId();
+    Category getCategory();
+    String getTitle();
+    String getFoundPlace();
+    LocalDateTime getFoundAt();
+    FoundStatus getStatus();
+}
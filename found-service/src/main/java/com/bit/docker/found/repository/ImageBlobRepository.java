@@ -0,0 +1,36 @@
+package com.bit.docker.found.repository;
+
+import com.bit.docker.found.model.ImageBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    // 참조 획득 - 없으면 refCount 1로 생성, 있으면 +1 (행 잠금은 트랜잭션 끝까지 유지)
+    @Modifying
+    @Query(value = "INSERT INTO image_blobs (sha256, stored_path, file_size, mime_type, ref_count, thumbnails_ready, created_at) " +
+                   "VALUES (:sha256, :storedPath, :fileSize, :mimeType, 1, false, NOW(6)) " +
+                   "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1",
+           nativeQuery = true)
+    int acquire(@Param("sha256") String sha256,
+                @Param("storedPath") String storedPath,
+                @Param("fileSize") long fileSize,
+                @Param("mimeType") String mimeType);
+
+    // 참조 해제 시 행 잠금 후 조회 (동시에 같은 내용을 올리는 요청과 파일 삭제가 엇갈리지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ImageBlob b WHERE b.sha256 = :sha256")
+    Optional<ImageBlob> findForUpdate(@Param("sha256") String sha256);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.thumbnailsReady = true WHERE b.sha256 = :sha256")
+    int markThumbnailsReady(@Param("sha256") String sha256);
+}
@@ -0,0 +1,221 @@
+package com.bit.docker.found.service;
+
+import com.bit.docker.found.dto.response.ChangeFeedResponse;
+import com.bit.docker.found.dto.response.FoundItemChangeResponse;
+import com.bit.docker.found.model.Category;
+import com.bit.docker.found.model.ChangeType;
+import com.bit.docker.found.model.FoundItemChange;
+import com.bit.docker.found.model.FoundStatus;
+import com.bit.docker.found.repository.FoundItemChangeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 습득물 변경 피드 (outbox)
+ * - 변경 이벤트를 받아 본 변경과 같은 트랜잭션에서 found_item_changes에 기록
+ * - seq(AUTO_INCREMENT) 발급 순서와 커밋 순서가 다를 수 있으므로, 아직 끝나지 않은 트랜잭션의 seq 직전까지만 공개
+ *   (소비자가 sinceSeq를 넘겨 받을 때 늦게 커밋된 변경을 건너뛰지 않도록 - 인스턴스 1개 기준)
+ * - 새 변경이 없으면 DeferredResult로 대기하다가 커밋 시점에 깨움 (long-polling)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeFeed {
+    // 한 번에 돌려주는 최대 변경 수 / 최대 대기 시간
+    private static final int MAX_LIMIT = 500;
+    private static final long MAX_WAIT_MILLIS = 30_000;
+
+    private final FoundItemChangeRepository changeRepository;
+
+    // 기록했지만 아직 커밋/롤백되지 않은 seq
+    private final ConcurrentSkipListSet<Long> pending = new ConcurrentSkipListSet<>();
+
+    // 지금까지 발급된 가장 큰 seq
+    private final AtomicLong maxAssigned = new AtomicLong();
+
+    // 기록(읽기 잠금, 동시 진행) / 공개 범위 계산(쓰기 잠금) - seq 발급과 pending 등록 사이를 끼어들지 못하게
+    private final ReentrantReadWriteLock assignLock = new ReentrantReadWriteLock();
+
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean deliveryScheduled = new AtomicBoolean();
+    private final ExecutorService notifier = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "found-change-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private record Waiter(long sinceSeq, int limit, DeferredResult<ChangeFeedResponse> result) {
+    }
+
+    @PostConstruct
+    void init() {
+        maxAssigned.set(changeRepository.findMaxSeq());
+    }
+
+    @PreDestroy
+    void stop() {
+        notifier.shutdownNow();
+    }
+
+    // 변경 이벤트 -> 변경 기록 (같은 트랜잭션, 롤백되면 기록도 함께 롤백)
+    @EventListener
+    public void onFoundItemChanged(FoundItemChangedEvent event) {
+        record(event.id(), changeType(event), event.newCategory(), event.newStatus());
+    }
+
+    // 보관 처리도 같은 트랜잭션에서 기록 (소비자는 본 테이블 기준 목록에서 제외)
+    @EventListener
+    public void onFoundItemArchived(FoundItemArchivedEvent event) {
+        record(event.id(), ChangeType.ARCHIVED, event.category(), event.status());
+    }
+
+    private void record(Long itemId, ChangeType changeType, Category category, FoundStatus status) {
+        FoundItemChange change = new FoundItemChange();
+        change.setItemId(itemId);
+        change.setChangeType(changeType);
+        change.setCategory(category);
+        change.setStatus(status);
+
+        long seq;
+        assignLock.readLock().lock();
+        try {
+            seq = changeRepository.saveAndFlush(change).getSeq();
+            pending.add(seq);
+            maxAssigned.accumulateAndGet(seq, Math::max);
+        } finally {
+            assignLock.readLock().unlock();
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending.remove(seq);
+            wakeUp();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // 롤백이어도 뒤쪽 seq의 공개를 막고 있었으므로 대기자를 깨움
+                pending.remove(seq);
+                wakeUp();
+            }
+        });
+    }
+
+    // sinceSeq 이후 변경 - 바로 줄 게 없으면 waitMillis 동안 대기
+    public DeferredResult<ChangeFeedResponse> poll(long sinceSeq, int limit, long waitMillis) {
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        long timeout = Math.min(Math.max(waitMillis, 0), MAX_WAIT_MILLIS);
+
+        ChangeFeedResponse immediate = read(sinceSeq, size);
+        if (!immediate.getChanges().isEmpty() || timeout == 0) {
+            DeferredResult<ChangeFeedResponse> result = new DeferredResult<>();
+            result.setResult(immediate);
+            return result;
+        }
+
+        DeferredResult<ChangeFeedResponse> result = new DeferredResult<>(timeout, () -> empty(sinceSeq));
+        Waiter waiter = new Waiter(sinceSeq, size, result);
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        // 조회와 등록 사이에 커밋된 변경을 놓치지 않도록 한 번 더 확인
+        wakeUp();
+        return result;
+    }
+
+    // 커밋마다 호출되지만 전달 작업은 하나로 합침
+    private void wakeUp() {
+        if (!waiters.isEmpty() && deliveryScheduled.compareAndSet(false, true)) {
+            notifier.execute(this::deliver);
+        }
+    }
+
+    private void deliver() {
+        deliveryScheduled.set(false);
+        // 같은 sinceSeq로 기다리는 소비자는 한 번만 조회
+        Map<Long, ChangeFeedResponse> bySinceSeq = new HashMap<>();
+        for (Waiter waiter : waiters) {
+            if (waiter.result().isSetOrExpired()) {
+                waiters.remove(waiter);
+                continue;
+            }
+            ChangeFeedResponse response = bySinceSeq.computeIfAbsent(waiter.sinceSeq(), since -> read(since, MAX_LIMIT));
+            if (!response.getChanges().isEmpty()) {
+                waiter.result().setResult(truncate(response, waiter.limit()));
+                waiters.remove(waiter);
+            }
+        }
+    }
+
+    private ChangeFeedResponse read(long sinceSeq, int limit) {
+        long untilSeq = visibleSeq();
+        if (untilSeq <= sinceSeq) {
+            return empty(sinceSeq);
+        }
+        List<FoundItemChange> rows = changeRepository.findRange(sinceSeq, untilSeq, PageRequest.of(0, limit + 1));
+        boolean hasMore = rows.size() > limit;
+        if (hasMore) {
+            rows = rows.subList(0, limit);
+        }
+        long nextSeq = rows.isEmpty() ? sinceSeq : rows.get(rows.size() - 1).getSeq();
+        List<FoundItemChangeResponse> changes = rows.stream()
+            .map(FoundItemChangeResponse::from)
+            .collect(Collectors.toList());
+        return new ChangeFeedResponse(changes, nextSeq, hasMore);
+    }
+
+    private ChangeFeedResponse truncate(ChangeFeedResponse response, int limit) {
+        if (response.getChanges().size() <= limit) {
+            return response;
+        }
+        List<FoundItemChangeResponse> changes = response.getChanges().subList(0, limit);
+        return new ChangeFeedResponse(changes, changes.get(limit - 1).getSeq(), true);
+    }
+
+    // 공개 가능한 마지막 seq - 이보다 작거나 같은 seq는 모두 커밋 또는 롤백이 끝난 상태
+    private long visibleSeq() {
+        assignLock.writeLock().lock();
+        try {
+            Long lowestPending = pending.ceiling(Long.MIN_VALUE);
+            return lowestPending != null ? lowestPending - 1 : maxAssigned.get();
+        } finally {
+            assignLock.writeLock().unlock();
+        }
+    }
+
+    private ChangeFeedResponse empty(long sinceSeq) {
+        return new ChangeFeedResponse(List.of(), sinceSeq, false);
+    }
+
+    // 등록이면 old 값이 null, 삭제면 new 값이 null
+    private ChangeType changeType(FoundItemChangedEvent event) {
+        if (event.oldStatus() == null) {
+            return ChangeType.CREATED;
+        }
+        if (event.newStatus() == null) {
+            return ChangeType.DELETED;
+        }
+        if (event.oldStatus() != event.newStatus()) {
+            return ChangeType.STATUS_CHANGED;
+        }
+        return ChangeType.UPDATED;
+    }
+}
@@ -0,0 +1,113 @@
+package com.bit.docker.found.service;
+
+import com.bit.docker.found.repository.DailyCount;
+import com.bit.docker.found.repository.FoundItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 등록일별 습득물 개수 메모리 집계표 (기간별 통계용)
+ * - 기동 시 일별 GROUP BY 한 번으로 적재, 이후에는 등록/삭제 이벤트(커밋 후)로 +1/-1
+ * - 누락/중복 반영이 있어도 주기적으로 DB 집계로 다시 맞춤 (daily-counts.reconcile-interval-millis)
+ * - 기간 조회는 DB 대신 일별 배열 구간 합산
+ * - lost/handover-service에도 같은 구조의 DailyCounter가 있음 (공유 모듈 없음 - 수정 시 함께 변경)
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyCounter {
+    // 배열을 늘릴 때 오늘 이후로 미리 확보해 두는 일수
+    private static final int DAYS_AHEAD = 366;
+
+    private final FoundItemRepository foundItemRepository;
+
+    // firstDay(epochDay)부터 하루 한 칸
+    private record Buckets(long firstDay, AtomicLongArray counts) {
+    }
+
+    private volatile Buckets buckets = empty(LocalDate.now().toEpochDay(), LocalDate.now().toEpochDay());
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${daily-counts.reconcile-interval-millis:600000}",
+               initialDelayString = "${daily-counts.reconcile-interval-millis:600000}")
+    public void reload() {
+        List<DailyCount> rows = foundItemRepository.countGroupByCreatedDate();
+        long firstDay = LocalDate.now().toEpochDay();
+        long lastDay = firstDay;
+        for (DailyCount row : rows) {
+            firstDay = Math.min(firstDay, row.getCreatedOn().toEpochDay());
+            lastDay = Math.max(lastDay, row.getCreatedOn().toEpochDay());
+        }
+        Buckets fresh = empty(firstDay, lastDay);
+        for (DailyCount row : rows) {
+            fresh.counts().set((int) (row.getCreatedOn().toEpochDay() - firstDay), row.getTotal());
+        }
+        synchronized (this) {
+            buckets = fresh;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFoundItemChanged(FoundItemChangedEvent event) {
+        if (event.createdAt() == null) {
+            return;
+        }
+        if (event.oldStatus() == null && event.newStatus() != null) {
+            add(event.createdAt().toLocalDate(), 1);
+        } else if (event.oldStatus() != null && event.newStatus() == null) {
+            add(event.createdAt().toLocalDate(), -1);
+        }
+    }
+
+    // 기간 내 개수 (양 끝 포함) - 날짜가 없으면 전체
+    public long count(LocalDate startDate, LocalDate endDate) {
+        Buckets current = buckets;
+        int length = current.counts().length();
+        int from = 0;
+        int to = length - 1;
+        if (startDate != null && endDate != null) {
+            from = (int) Math.max(0, startDate.toEpochDay() - current.firstDay());
+            to = (int) Math.min(length - 1, endDate.toEpochDay() - current.firstDay());
+        }
+        long total = 0;
+        for (int i = from; i <= to; i++) {
+            total += current.counts().get(i);
+        }
+        return Math.max(0, total);
+    }
+
+    // 갱신은 드물어서 잠금으로 배열 확장과 직렬화 (조회는 잠금 없이 현재 배열 사용)
+    private synchronized void add(LocalDate day, long delta) {
+        long epochDay = day.toEpochDay();
+        Buckets current = buckets;
+        if (epochDay < current.firstDay() || epochDay >= current.firstDay() + current.counts().length()) {
+            current = grow(current, epochDay);
+            buckets = current;
+        }
+        current.counts().addAndGet((int) (epochDay - current.firstDay()), delta);
+    }
+
+    private Buckets grow(Buckets current, long epochDay) {
+        long firstDay = Math.min(current.firstDay(), epochDay);
+        long lastDay = Math.max(current.firstDay() + current.counts().length() - 1,
+            Math.max(epochDay, LocalDate.now().toEpochDay()) + DAYS_AHEAD);
+        AtomicLongArray counts = new AtomicLongArray((int) (lastDay - firstDay + 1));
+        int offset = (int) (current.firstDay() - firstDay);
+        for (int i = 0; i < current.counts().length(); i++) {
+            counts.set(offset + i, current.counts().get(i));
+        }
+        return new Buckets(firstDay, counts);
+    }
+
+    private static Buckets empty(long firstDay, long lastDay) {
+        return new Buckets(firstDay, new AtomicLongArray((int) (lastDay + DAYS_AHEAD - firstDay + 1)));
+    }
+}
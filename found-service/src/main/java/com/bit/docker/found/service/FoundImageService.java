@@ -0,0 +1,259 @@
+package com.bit.docker.found.service;
+
+import com.bit.docker.found.config.ImageStorageProperties;
+import com.bit.docker.found.dto.response.FoundImageResponse;
+import com.bit.docker.found.model.FoundImage;
+import com.bit.docker.found.model.FoundItem;
+import com.bit.docker.found.model.ImageBlob;
+import com.bit.docker.found.repository.FoundImageRepository;
+import com.bit.docker.found.repository.FoundItemRepository;
+import com.bit.docker.found.repository.ImageBlobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class FoundImageService {
+    private static final int MAX_FILE_NAME_LENGTH = 500;
+
+    private final FoundItemRepository foundItemRepository;
+    private final FoundImageRepository foundImageRepository;
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageStorage imageStorage;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final ImageStorageProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private record Registered(FoundImage image, ImageBlob blob) {
+    }
+
+    // 이미지 등록 - 파일 기록/해시는 트랜잭션 밖에서, 참조 획득과 행 저장은 한 트랜잭션으로
+    public FoundImageResponse uploadImage(Long foundId, Long userId, String role,
+                                          String fileName, InputStream content) throws IOException {
+        FoundItem item = foundItemRepository.findById(foundId)
+            .orElseThrow(() -> new IllegalArgumentException("습득물을 찾을 수 없습니다."));
+
+        // 작성자 확인 (ADMIN은 모든 글에 등록 가능)
+        if (!"ADMIN".equals(role) && !item.getOwnerUserId().equals(userId)) {
+            throw new IllegalArgumentException("이미지 등록 권한이 없습니다.");
+        }
+        if (foundImageRepository.countByFoundId(foundId) >= properties.getMaxImagesPerItem()) {
+            throw new IllegalArgumentException(
+                "이미지는 최대 " + properties.getMaxImagesPerItem() + "장까지 등록할 수 있습니다.");
+        }
+
+        ImageStorage.StagedImage staged = imageStorage.stage(content);
+        AtomicBoolean placed = new AtomicBoolean(false);
+        try {
+            String storedPath = imageStorage.blobPath(staged);
+            Registered registered;
+            try {
+                registered = transactionTemplate.execute(status ->
+                    register(foundId, fileName, staged, storedPath, placed));
+            } catch (RuntimeException e) {
+                // 새로 배치한 파일인데 행 저장이 롤백됐으면 참조 없는 파일이 남지 않도록 정리
+                if (placed.get()) {
+                    purgeIfUnreferenced(staged.sha256(), storedPath);
+                }
+                throw e;
+            }
+
+            ImageBlob blob = registered.blob();
+            boolean thumbnailsReady = Boolean.TRUE.equals(blob.getThumbnailsReady());
+            // 같은 내용의 썸네일이 이미 있으면 다시 만들지 않음
+            if (!thumbnailsReady) {
+                thumbnailGenerator.submit(blob);
+            }
+            return FoundImageResponse.from(registered.image(), thumbnailsReady, properties.getThumbnailWidths());
+        } finally {
+            // commit으로 옮겨졌거나 이미 삭제됐으면 아무 일도 하지 않음
+            imageStorage.discard(staged);
+        }
+    }
+
+    // 참조 획득 + 파일 배치 + 행 저장 (한 트랜잭션) - 새로 배치한 파일이면 placed = true
+    private Registered register(Long foundId, String fileName, ImageStorage.StagedImage staged,
+                                String storedPath, AtomicBoolean placed) {
+        imageBlobRepository.acquire(staged.sha256(), storedPath, staged.fileSize(), staged.mimeType());
+        // 행 잠금을 잡은 채로 파일 배치 - 마지막 참조 해제(파일 삭제)와 엇갈리지 않음
+        try {
+            placed.set(imageStorage.commit(staged, storedPath));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ImageBlob blob = imageBlobRepository.findById(staged.sha256())
+            .orElseThrow(() -> new IllegalStateException("이미지 정보를 찾을 수 없습니다."));
+
+        FoundImage image = new FoundImage();
+        image.setFoundId(foundId);
+        image.setFileName(cleanFileName(fileName));
+        image.setStoredPath(blob.getStoredPath());
+        image.setSha256(blob.getSha256());
+        image.setFileSize(blob.getFileSize());
+        image.setMimeType(blob.getMimeType());
+        return new Registered(foundImageRepository.save(image), blob);
+    }
+
+    // 습득물 이미지 목록
+    @Transactional(readOnly = true)
+    public List<FoundImageResponse> getImages(Long foundId) {
+        List<FoundImage> images = foundImageRepository.findByFoundIdOrderByIdAsc(foundId);
+        List<String> hashes = images.stream()
+            .map(FoundImage::getSha256)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        Map<String, Boolean> thumbnailsReady = imageBlobRepository.findAllById(hashes).stream()
+            .collect(Collectors.toMap(ImageBlob::getSha256, blob -> Boolean.TRUE.equals(blob.getThumbnailsReady())));
+
+        return images.stream()
+            .map(image -> FoundImageResponse.from(
+                image,
+                image.getSha256() != null && thumbnailsReady.getOrDefault(image.getSha256(), false),
+                properties.getThumbnailWidths()))
+            .collect(Collectors.toList());
+    }
+
+    // 응답할 파일 선택 - 요청한 가로 크기의 썸네일이 준비돼 있으면 썸네일, 아니면 원본
+    @Transactional(readOnly = true)
+    public ImageFile getImageFile(Long foundId, Long imageId, Integer width) {
+        FoundImage image = findImage(foundId, imageId);
+        String sha256 = image.getSha256();
+        if (sha256 == null) {
+            return new ImageFile(imageStorage.resolve(image.getStoredPath()), image.getMimeType(), null, false);
+        }
+
+        if (width == null) {
+            return new ImageFile(imageStorage.resolve(image.getStoredPath()), image.getMimeType(),
+                "\"" + sha256 + "\"", true);
+        }
+        boolean thumbnailsReady = properties.getThumbnailWidths().contains(width)
+            && imageBlobRepository.findById(sha256).map(blob -> Boolean.TRUE.equals(blob.getThumbnailsReady())).orElse(false);
+        if (thumbnailsReady) {
+            return new ImageFile(imageStorage.resolve(imageStorage.thumbnailPath(image.getStoredPath(), width)),
+                "image/jpeg", "\"" + sha256 + "-w" + width + "\"", true);
+        }
+        // 썸네일 생성 전 대체 응답 - 나중에 같은 URL이 썸네일로 바뀌므로 고정 캐시하지 않음
+        return new ImageFile(imageStorage.resolve(image.getStoredPath()), image.getMimeType(),
+            "\"" + sha256 + "\"", false);
+    }
+
+    // 이미지 삭제 - 마지막 참조였으면 파일도 삭제
+    @Transactional
+    public void deleteImage(Long foundId, Long imageId, Long userId, String role) {
+        FoundImage image = findImage(foundId, imageId);
+        FoundItem item = foundItemRepository.findById(foundId)
+            .orElseThrow(() -> new IllegalArgumentException("습득물을 찾을 수 없습니다."));
+
+        // 작성자 확인 (ADMIN은 모든 글의 이미지 삭제 가능)
+        if (!"ADMIN".equals(role) && !item.getOwnerUserId().equals(userId)) {
+            throw new IllegalArgumentException("이미지 삭제 권한이 없습니다.");
+        }
+
+        foundImageRepository.delete(image);
+        release(image);
+    }
+
+    // 습득물 삭제 시 같은 트랜잭션에서 이미지 참조도 해제
+    @EventListener
+    public void onFoundItemChanged(FoundItemChangedEvent event) {
+        if (event.newCategory() != null || event.newStatus() != null) {
+            return;
+        }
+        List<FoundImage> images = foundImageRepository.findByFoundIdOrderByIdAsc(event.id());
+        foundImageRepository.deleteAll(images);
+        // 잠금 순서를 고정해 교착 방지
+        images.stream()
+            .sorted(Comparator.comparing(FoundImage::getSha256, Comparator.nullsFirst(Comparator.naturalOrder())))
+            .forEach(this::release);
+    }
+
+    private FoundImage findImage(Long foundId, Long imageId) {
+        return foundImageRepository.findById(imageId)
+            .filter(image -> image.getFoundId().equals(foundId))
+            .orElseThrow(() -> new IllegalArgumentException("이미지를 찾을 수 없습니다."));
+    }
+
+    // refCount 감소 (행 잠금 상태에서) - 0이 되면 커밋 후 행과 파일 삭제
+    // 트랜잭션이 롤백되면 행이 되살아나므로 파일은 커밋 전에 지우지 않음
+    private void release(FoundImage image) {
+        if (image.getSha256() == null) {
+            String storedPath = image.getStoredPath();
+            afterCommit(() -> imageStorage.delete(storedPath));
+            return;
+        }
+        imageBlobRepository.findForUpdate(image.getSha256()).ifPresent(blob -> {
+            blob.setRefCount(blob.getRefCount() - 1);
+            if (blob.getRefCount() <= 0) {
+                String sha256 = blob.getSha256();
+                String storedPath = blob.getStoredPath();
+                afterCommit(() -> purgeIfUnreferenced(sha256, storedPath));
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 참조가 없는 내용의 행과 파일 삭제 (커밋 후 / 업로드 롤백 후)
+     * - 별도 트랜잭션에서 행을 다시 잠그고, 그 사이 같은 내용이 다시 등록되지 않았을 때만 삭제
+     * - 행이 없으면(업로드 롤백) 잠금 조회가 같은 키의 새 등록(acquire)을 막은 상태에서 파일만 삭제
+     */
+    private void purgeIfUnreferenced(String sha256, String storedPath) {
+        TransactionTemplate purge = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        // 커밋 직후 콜백에서는 원래 트랜잭션 자원이 아직 묶여 있으므로 새 트랜잭션으로
+        purge.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            purge.executeWithoutResult(status -> {
+                Optional<ImageBlob> blob = imageBlobRepository.findForUpdate(sha256);
+                if (blob.isEmpty()) {
+                    imageStorage.delete(storedPath);
+                } else if (blob.get().getRefCount() <= 0) {
+                    imageBlobRepository.delete(blob.get());
+                    imageBlobRepository.flush();
+                    imageStorage.delete(storedPath);
+                }
+            });
+        } catch (Exception e) {
+            System.err.println("이미지 정리 실패: sha256=" + sha256 + " - " + e.getMessage());
+        }
+    }
+
+    // 경로 부분 제거, 컬럼 길이에 맞춤
+    private String cleanFileName(String fileName) {
+        String name = StringUtils.getFilename(StringUtils.cleanPath(fileName == null ? "" : fileName));
+        if (!StringUtils.hasText(name)) {
+            name = "image";
+        }
+        return name.length() > MAX_FILE_NAME_LENGTH ? name.substring(name.length() - MAX_FILE_NAME_LENGTH) : name;
+    }
+}
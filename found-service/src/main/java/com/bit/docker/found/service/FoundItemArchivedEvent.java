@@ -0,0 +1,13 @@
+package com.bit.docker.found.service;
+
+import com.bit.docker.found.model.Category;
+import com.bit.docker.found.model.FoundStatus;
+
+// 습득물 보관 테이블 이동 (같은 트랜잭션에서 변경 피드 기록, 커밋 후 FacetCounter 반영)
+// 삭제가 아니므로 일별 등록 통계/이미지는 그대로 유지
+public record FoundItemArchivedEvent(
+        Long id,
+        Category category,
+        FoundStatus status
+) {
+}
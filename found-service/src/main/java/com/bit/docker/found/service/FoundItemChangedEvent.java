@@ -0,0 +1,18 @@
+package com.bit.docker.found.service;
+
+import com.bit.docker.found.model.Category;
+import com.bit.docker.found.model.FoundStatus;
+
+import java.time.LocalDateTime;
+
+// 습득물 등록/수정/상태 변경/삭제 (커밋 후 FacetCounter/DailyCounter 반영)
+// 등록이면 old 값이 null, 삭제면 new 값이 null
+public record FoundItemChangedEvent(
+        Long id,
+        Category oldCategory,
+        FoundStatus oldStatus,
+        Category newCategory,
+        FoundStatus newStatus,
+        LocalDateTime createdAt
+) {
+}
@@ -1,25 +1,63 @@
 package com.bit.docker.found.service;
 
 import com.bit.docker.found.dto.request.FoundItemCreateRequest;
+import com.bit.docker.found.dto.request.FoundItemFilterRequest;
 import com.bit.docker.found.dto.request.FoundItemUpdateRequest;
+import com.bit.docker.found.dto.response.FoundItemFilterResponse;
+import com.bit.docker.found.dto.response.CursorPage;
 import com.bit.docker.found.dto.response.FoundItemResponse;
+import com.bit.docker.found.dto.response.FoundItemSearchResponse;
+import com.bit.docker.found.model.Category;
 import com.bit.docker.found.model.FoundItem;
 import com.bit.docker.found.model.FoundStatus;
+import com.bit.docker.found.repository.FoundItemArchiveRepository;
 import com.bit.docker.found.repository.FoundItemRepository;
+import com.bit.docker.found.repository.FoundItemSummary;
+import com.bit.docker.found.repository.SearchHit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.bit.docker.found.repository.FoundItemSpecifications.*;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class FoundItemService {
+    // 일괄 조회 한 번에 받을 수 있는 최대 ID 수
+    private static final int MAX_BATCH_SIZE = 500;
+
+    // ngram 토큰 크기 (2글자 미만 검색어는 인덱스에 걸리지 않음)
+    private static final int MIN_QUERY_LENGTH = 2;
+
+    // 커서 목록 한 번에 받을 수 있는 최대 개수
+    private static final int MAX_FEED_LIMIT = 100;
+
     private final FoundItemRepository foundItemRepository;
+    private final FoundItemArchiveRepository foundItemArchiveRepository;
+    private final FacetCounter facetCounter;
+    private final DailyCounter dailyCounter;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 습득물 등록
     @Transactional
@@ -36,6 +74,8 @@ public class FoundItemService {
         item.setStatus(FoundStatus.REGISTERED);
         
         FoundItem saved = foundItemRepository.save(item);
+        eventPublisher.publishEvent(new FoundItemChangedEvent(
+            saved.getId(), null, null, saved.getCategory(), saved.getStatus(), saved.getCreatedAt()));
         return FoundItemResponse.from(saved);
     }
     
@@ -45,6 +85,108 @@ public class FoundItemService {
             .map(FoundItemResponse::from);
     }
     
+    // 습득물 목록 (커서 기반, 최신순) - 전체 개수를 세지 않으므로 몇 번째 페이지든 limit 만큼만 읽음
+    // after: 이전 응답의 nextCursor ("createdAt,id"), 없으면 첫 페이지
+    public CursorPage<FoundItemResponse> getFoundItemFeed(FoundStatus status, String after, int limit) {
+        if (limit < 1 || limit > MAX_FEED_LIMIT) {
+            throw new IllegalArgumentException("limit은 1~" + MAX_FEED_LIMIT + " 사이여야 합니다.");
+        }
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+
+        List<FoundItem> items;
+        if (after == null || after.isBlank()) {
+            items = status == null
+                ? foundItemRepository.findFeed(pageRequest)
+                : foundItemRepository.findFeedByStatus(status, pageRequest);
+        } else {
+            int comma = after.lastIndexOf(',');
+            LocalDateTime createdAt;
+            Long id;
+            try {
+                createdAt = LocalDateTime.parse(after.substring(0, comma).trim());
+                id = Long.parseLong(after.substring(comma + 1).trim());
+            } catch (DateTimeParseException | IndexOutOfBoundsException | NumberFormatException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다: " + after);
+            }
+            items = status == null
+                ? foundItemRepository.findFeedAfter(createdAt, id, pageRequest)
+                : foundItemRepository.findFeedByStatusAfter(status, createdAt, id, pageRequest);
+        }
+
+        boolean hasNext = items.size() > limit;
+        List<FoundItem> content = hasNext ? items.subList(0, limit) : items;
+        String nextCursor = null;
+        if (hasNext) {
+            FoundItem last = content.get(content.size() - 1);
+            nextCursor = last.getCreatedAt() + "," + last.getId();
+        }
+        return new CursorPage<>(
+            content.stream().map(FoundItemResponse::from).collect(Collectors.toList()),
+            nextCursor,
+            hasNext
+        );
+    }
+    
+    // 습득물 검색 (제목+설명 전문 검색, 관련도 순) + 카테고리/상태/습득일 필터
+    public Slice<FoundItemSearchResponse> searchFoundItems(String query, Category category, FoundStatus status,
+                                                LocalDate from, LocalDate to, Pageable pageable) {
+        if (query == null || query.trim().length() < MIN_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MIN_QUERY_LENGTH + "글자 이상이어야 합니다.");
+        }
+        String trimmed = query.trim();
+
+        // 1. 인덱스에서 id + 점수만 (다음 페이지 확인용 1건 더)
+        List<SearchHit> hits = foundItemRepository.search(
+            trimmed,
+            category != null ? category.name() : null,
+            status != null ? status.name() : null,
+            from != null ? from.atStartOfDay() : null,
+            to != null ? to.plusDays(1).atStartOfDay() : null,
+            pageable.getPageSize() + 1,
+            pageable.getOffset()
+        );
+        boolean hasNext = hits.size() > pageable.getPageSize();
+        if (hasNext) {
+            hits = hits.subList(0, pageable.getPageSize());
+        }
+
+        // 2. 본문은 PK로 한 번에 조회 후 점수 순서대로
+        Map<Long, FoundItem> items = foundItemRepository.findAllById(hits.stream().map(SearchHit::getId).toList()).stream()
+            .collect(Collectors.toMap(FoundItem::getId, Function.identity()));
+        List<FoundItemSearchResponse> content = hits.stream()
+            .filter(hit -> items.containsKey(hit.getId()))
+            .map(hit -> {
+                FoundItem item = items.get(hit.getId());
+                return new FoundItemSearchResponse(
+                    FoundItemResponse.from(item),
+                    hit.getScore(),
+                    SearchHighlighter.highlight(item.getTitle(), trimmed),
+                    SearchHighlighter.snippet(item.getDescription(), trimmed)
+                );
+            })
+            .collect(Collectors.toList());
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+    
+    // 습득물 조합 필터 (카테고리/상태/장소/기간) + 패싯 개수
+    // 패싯은 GROUP BY 대신 메모리 집계표에서 (카테고리/상태 조건만 반영)
+    public FoundItemFilterResponse filterFoundItems(FoundItemFilterRequest filter, Pageable pageable) {
+        Specification<FoundItem> spec = Specification.where(hasCategory(filter.getCategory()))
+            .and(hasStatus(filter.getStatus()))
+            .and(placeContains(filter.getPlace()))
+            .and(foundAtFrom(filter.getFrom()))
+            .and(foundAtTo(filter.getTo()));
+
+        Page<FoundItemResponse> items = foundItemRepository.findAll(spec, pageable)
+            .map(FoundItemResponse::from);
+        return new FoundItemFilterResponse(
+            items,
+            facetCounter.countByCategory(filter.getStatus()),
+            facetCounter.countByStatus(filter.getCategory())
+        );
+    }
+    
     // 내 습득물 목록
     public List<FoundItemResponse> getMyFoundItems(Long userId) {
         return foundItemRepository.findByOwnerUserId(userId).stream()
@@ -52,11 +194,48 @@ public class FoundItemService {
             .collect(Collectors.toList());
     }
     
+    // 습득물 일괄 조회 (다른 서비스에서 호출) - ID 목록을 쿼리 한 번으로, 없는 ID는 결과에서 빠짐
+    public Map<Long, FoundItemSummary> getFoundItemSummaries(Collection<Long> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("ID 목록은 필수입니다.");
+        }
+        Set<Long> uniqueIds = ids.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (uniqueIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 습득물은 최대 " + MAX_BATCH_SIZE + "건입니다.");
+        }
+        if (uniqueIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, FoundItemSummary> result = new LinkedHashMap<>();
+        for (FoundItemSummary summary : foundItemRepository.findByIdIn(uniqueIds)) {
+            result.put(summary.getId(), summary);
+        }
+        // 본 테이블에 없는 ID는 보관 테이블에서 보충
+        if (result.size() < uniqueIds.size()) {
+            Set<Long> missing = new LinkedHashSet<>(uniqueIds);
+            missing.removeAll(result.keySet());
+            for (FoundItemSummary summary : foundItemArchiveRepository.findByIdIn(missing)) {
+                result.put(summary.getId(), summary);
+            }
+        }
+        return result;
+    }
+    
     // 습득물 상세
     public FoundItemResponse getFoundItem(Long id) {
-        FoundItem item = foundItemRepository.findById(id)
+        // 본 테이블에 없으면 보관 테이블에서 조회 (오래된 인계 내역/링크)
+        return foundItemRepository.findById(id)
+            .map(FoundItemResponse::from)
+            .or(() -> foundItemArchiveRepository.findById(id).map(FoundItemResponse::from))
             .orElseThrow(() -> new IllegalArgumentException("습득물을 찾을 수 없습니다."));
-        return FoundItemResponse.from(item);
+    }
+
+    // 보관된 습득물 목록 (본 목록/피드/검색에는 포함되지 않음)
+    public Page<FoundItemResponse> getArchivedFoundItems(Pageable pageable) {
+        return foundItemArchiveRepository.findAll(pageable).map(FoundItemResponse::from);
     }
     
     // 습득물 수정
@@ -70,6 +249,7 @@ public class FoundItemService {
             throw new IllegalArgumentException("수정 권한이 없습니다.");
         }
         
+        Category oldCategory = item.getCategory();
         item.setCategory(request.getCategory());
         item.setTitle(request.getTitle());
         item.setDescription(request.getDescription());
@@ -78,6 +258,9 @@ public class FoundItemService {
         item.setStorageType(request.getStorageType());
         item.setStorageLocation(request.getStorageLocation());
         
+        eventPublisher.publishEvent(new FoundItemChangedEvent(
+            item.getId(), oldCategory, item.getStatus(), item.getCategory(), item.getStatus(), item.getCreatedAt()));
+        
         return FoundItemResponse.from(item);
     }
     
@@ -93,6 +276,8 @@ public class FoundItemService {
         }
         
         foundItemRepository.delete(item);
+        eventPublisher.publishEvent(new FoundItemChangedEvent(
+            item.getId(), item.getCategory(), item.getStatus(), null, null, item.getCreatedAt()));
     }
     
     // 상태 변경
@@ -100,7 +285,10 @@ public class FoundItemService {
     public void updateStatus(Long id, FoundStatus status) {
         FoundItem item = foundItemRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("습득물을 찾을 수 없습니다."));
+        FoundStatus oldStatus = item.getStatus();
         item.setStatus(status);
+        eventPublisher.publishEvent(new FoundItemChangedEvent(
+            item.getId(), item.getCategory(), oldStatus, item.getCategory(), status, item.getCreatedAt()));
     }
     
     // 보관 처리 (OFFICE용)
@@ -109,20 +297,41 @@ public class FoundItemService {
         FoundItem item = foundItemRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("습득물을 찾을 수 없습니다."));
         
+        FoundStatus oldStatus = item.getStatus();
         item.setStorageLocation(storageLocation);
         item.setStatus(FoundStatus.STORED);
+        eventPublisher.publishEvent(new FoundItemChangedEvent(
+            item.getId(), item.getCategory(), oldStatus, item.getCategory(), item.getStatus(), item.getCreatedAt()));
         
         return FoundItemResponse.from(item);
     }
 
+    // 조건부 상태 변경 (CAS) - 현재 상태가 expected 중 하나일 때만 변경, 아니면 StatusConflictException
+    // 잠금 조회 없이 expected마다 조건부 UPDATE 한 번씩 - 처음 1행이 바뀐 값이 이전 상태
+    // 모두 0행일 때만 현재 상태를 읽어 409에 담음
+    @Transactional
+    public void compareAndSetStatus(Long id, Collection<FoundStatus> expected, FoundStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        for (FoundStatus from : expected) {
+            if (foundItemRepository.compareAndSetStatus(id, from, status, now) == 1) {
+                // 이벤트용 카테고리/등록일 (변경 후 다시 읽음)
+                FoundItem item = foundItemRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("습득물을 찾을 수 없습니다."));
+                eventPublisher.publishEvent(new FoundItemChangedEvent(
+                    id, item.getCategory(), from, item.getCategory(), status, item.getCreatedAt()));
+                return;
+            }
+        }
+
+        // UPDATE가 먼저 실행됐으므로 이 조회의 스냅샷은 UPDATE 이후 시점
+        FoundStatus current = foundItemRepository.findStatusById(id)
+            .orElseThrow(() -> new IllegalArgumentException("습득물을 찾을 수 없습니다."));
+        throw new StatusConflictException(current);
+    }
+    
     // 기간별 통계 (Admin에서 호출)
     public long countByDateRange(java.time.LocalDate startDate, java.time.LocalDate endDate) {
-        if (startDate == null || endDate == null) {
-            return foundItemRepository.count();
-        }
-        // LocalDate를 LocalDateTime으로 변환 (하루의 시작과 끝)
-        java.time.LocalDateTime startDateTime = startDate.atStartOfDay();
-        java.time.LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
-        return foundItemRepository.countByCreatedAtBetween(startDateTime, endDateTime);
+        // 일별 집계표 구간 합산 (날짜가 없으면 전체)
+        return dailyCounter.count(startDate, endDate);
     }
 }
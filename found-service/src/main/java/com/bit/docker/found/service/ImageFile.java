@@ -0,0 +1,7 @@
+package com.bit.docker.found.service;
+
+import java.nio.file.Path;
+
+// 응답으로 보낼 이미지 파일 (원본 또는 썸네일) - immutable이면 같은 URL의 내용이 바뀌지 않음
+public record ImageFile(Path path, String mimeType, String etag, boolean immutable) {
+}
@@ -0,0 +1,183 @@
+package com.bit.docker.found.service;
+
+import com.bit.docker.found.config.ImageStorageProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * 습득물 이미지 파일 저장소 (SHA-256 내용 주소)
+ * - 업로드 스트림을 해시하면서 채널로 임시 파일에 바로 기록 (파일 전체를 힙에 올리지 않음)
+ * - 같은 내용은 같은 경로({sha 앞 2자리}/{sha}.{ext})로 모이므로 이미 있으면 임시 파일만 버림
+ * - 형식은 선언된 Content-Type 대신 파일 앞부분(매직 바이트)으로 판별
+ */
+@Component
+@RequiredArgsConstructor
+class ImageStorage {
+    // 형식 판별에 필요한 앞부분 길이 (PNG 시그니처 8바이트)
+    private static final int HEADER_LENGTH = 8;
+
+    // transferFrom 한 번에 옮기는 최대 크기
+    private static final long CHUNK_SIZE = 1024 * 1024;
+
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] GIF = {'G', 'I', 'F', '8'};
+
+    private final ImageStorageProperties properties;
+
+    private Path root;
+    private Path staging;
+
+    // 해시까지 끝난 임시 파일 (commit 또는 discard 전)
+    record StagedImage(Path tempFile, String sha256, long fileSize, String mimeType) {
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(properties.getRootDir()).toAbsolutePath().normalize();
+        staging = root.resolve(".staging");
+        Files.createDirectories(staging);
+    }
+
+    // 업로드 스트림을 임시 파일로 - 최대 크기를 넘으면 그 자리에서 중단하고 삭제
+    StagedImage stage(InputStream content) throws IOException {
+        DigestInputStream digesting = new DigestInputStream(content, sha256Digest());
+        byte[] header = digesting.readNBytes(HEADER_LENGTH);
+        String mimeType = detectMimeType(header);
+        if (mimeType == null) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다. (JPEG, PNG, GIF만 가능)");
+        }
+
+        Path temp = Files.createTempFile(staging, "upload-", ".tmp");
+        long limit = properties.getMaxFileSize().toBytes();
+        long size;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE);
+             ReadableByteChannel in = Channels.newChannel(digesting)) {
+            out.write(ByteBuffer.wrap(header));
+            long position = header.length;
+            long transferred;
+            // 최대 크기 + 1바이트까지만 받아서 초과 여부 판단
+            while (position <= limit
+                    && (transferred = out.transferFrom(in, position, Math.min(CHUNK_SIZE, limit + 1 - position))) > 0) {
+                position += transferred;
+            }
+            if (position > limit) {
+                throw new IllegalArgumentException(
+                    "이미지 크기가 너무 큽니다. (최대 " + properties.getMaxFileSize().toMegabytes() + "MB)");
+            }
+            size = position;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        String sha256 = HexFormat.of().formatHex(digesting.getMessageDigest().digest());
+        return new StagedImage(temp, sha256, size, mimeType);
+    }
+
+    // 내용 주소 상대 경로 (한 디렉터리에 파일이 몰리지 않도록 앞 2자리로 분산)
+    String blobPath(StagedImage image) {
+        return image.sha256().substring(0, 2) + "/" + image.sha256() + extension(image.mimeType());
+    }
+
+    // 임시 파일을 내용 주소 위치로 - 같은 내용이 이미 있으면 임시 파일만 삭제
+    // 새로 배치했으면 true (트랜잭션이 롤백되면 호출 측에서 정리)
+    boolean commit(StagedImage image, String storedPath) throws IOException {
+        Path target = resolve(storedPath);
+        if (Files.exists(target)) {
+            discard(image);
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        Files.move(image.tempFile(), target, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
+    void discard(StagedImage image) {
+        try {
+            Files.deleteIfExists(image.tempFile());
+        } catch (IOException e) {
+            System.err.println("임시 이미지 파일 삭제 실패: " + image.tempFile() + " - " + e.getMessage());
+        }
+    }
+
+    // 상대 경로 -> 실제 경로 (루트 밖으로 벗어나는 경로는 거부)
+    Path resolve(String storedPath) {
+        Path path = root.resolve(storedPath).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 이미지 경로입니다.");
+        }
+        return path;
+    }
+
+    // {sha}.png -> {sha}_w240.jpg (썸네일은 모두 JPEG)
+    String thumbnailPath(String storedPath, int width) {
+        int dot = storedPath.lastIndexOf('.');
+        String base = dot < 0 ? storedPath : storedPath.substring(0, dot);
+        return base + "_w" + width + ".jpg";
+    }
+
+    // 원본과 썸네일 삭제 (마지막 참조가 해제된 경우)
+    void delete(String storedPath) {
+        try {
+            Files.deleteIfExists(resolve(storedPath));
+            for (Integer width : properties.getThumbnailWidths()) {
+                Files.deleteIfExists(resolve(thumbnailPath(storedPath, width)));
+            }
+        } catch (IOException e) {
+            System.err.println("이미지 파일 삭제 실패: " + storedPath + " - " + e.getMessage());
+        }
+    }
+
+    private MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String detectMimeType(byte[] header) {
+        if (startsWith(header, JPEG)) {
+            return "image/jpeg";
+        }
+        if (startsWith(header, PNG)) {
+            return "image/png";
+        }
+        if (startsWith(header, GIF)) {
+            return "image/gif";
+        }
+        return null;
+    }
+
+    private boolean startsWith(byte[] header, byte[] signature) {
+        return header.length >= signature.length
+            && Arrays.equals(header, 0, signature.length, signature, 0, signature.length);
+    }
+
+    private String extension(String mimeType) {
+        return switch (mimeType) {
+            case "image/png" -> ".png";
+            case "image/gif" -> ".gif";
+            default -> ".jpg";
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.bit.docker.found.service;
+
+import com.bit.docker.found.model.FoundStatus;
+import lombok.Getter;
+
+// 조건부 상태 변경 실패 - 현재 상태가 기대한 상태가 아님
+@Getter
+public class StatusConflictException extends RuntimeException {
+    private final FoundStatus currentStatus;
+
+    public StatusConflictException(FoundStatus currentStatus) {
+        super("현재 상태(" + currentStatus + ")에서는 변경할 수 없습니다.");
+        this.currentStatus = currentStatus;
+    }
+}
@@ -0,0 +1,158 @@
+package com.bit.docker.found.service;
+
+import com.bit.docker.found.config.ImageStorageProperties;
+import com.bit.docker.found.model.ImageBlob;
+import com.bit.docker.found.repository.ImageBlobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 목록용 썸네일 생성 (업로드 응답과 분리된 비동기 단계)
+ * - 스레드 수/대기열이 고정된 전용 풀에서 처리, 대기열이 가득 차면 건너뜀 (해당 이미지는 원본으로 대체 제공)
+ * - 디코딩 시 긴 변 기준으로 가장 큰 썸네일의 2배 해상도까지만 서브샘플링해서 읽어 메모리 사용량 제한
+ * - 헤더의 가로 x 세로가 thumbnail-max-source-pixels를 넘으면 디코딩하지 않음 (원본으로 대체 제공)
+ * - 내용(SHA-256)마다 한 번만 생성, 모든 크기를 만든 뒤 image_blobs.thumbnailsReady = true
+ */
+@Component
+@RequiredArgsConstructor
+class ThumbnailGenerator {
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final ImageStorage imageStorage;
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageStorageProperties properties;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        int threads = Math.max(1, properties.getThumbnailThreads());
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+            threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.getThumbnailQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "found-thumbnail-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    void submit(ImageBlob blob) {
+        String sha256 = blob.getSha256();
+        String storedPath = blob.getStoredPath();
+        try {
+            executor.execute(() -> generate(sha256, storedPath));
+        } catch (RejectedExecutionException e) {
+            System.err.println("썸네일 대기열이 가득 차 생성을 건너뜁니다: sha256=" + sha256);
+        }
+    }
+
+    private void generate(String sha256, String storedPath) {
+        try {
+            BufferedImage source = decode(imageStorage.resolve(storedPath));
+            if (source == null) {
+                System.err.println("썸네일 생성 실패 (디코딩 불가): sha256=" + sha256);
+                return;
+            }
+            for (Integer width : properties.getThumbnailWidths()) {
+                write(scale(source, width), imageStorage.resolve(imageStorage.thumbnailPath(storedPath, width)));
+            }
+            imageBlobRepository.markThumbnailsReady(sha256);
+        } catch (Exception e) {
+            System.err.println("썸네일 생성 실패: sha256=" + sha256 + " - " + e.getMessage());
+        }
+    }
+
+    private BufferedImage decode(Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > properties.getThumbnailMaxSourcePixels()) {
+                    throw new IOException("원본 해상도가 너무 큽니다 (" + width + "x" + height + ")");
+                }
+                // 가로만 보면 폭이 좁고 매우 긴 이미지는 서브샘플링 없이 전부 디코딩됨 -> 긴 변 기준
+                int largest = Collections.max(properties.getThumbnailWidths());
+                int step = Math.max(1, Math.max(width, height) / (largest * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 원본이 더 작으면 확대하지 않음, 투명 배경은 흰색으로 채움 (JPEG)
+    private BufferedImage scale(BufferedImage source, int width) {
+        int targetWidth = Math.min(width, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private void write(BufferedImage image, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".thumb-", ".tmp");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            writer.dispose();
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -13,4 +13,20 @@ export const authApi = {
     const response = await apiClient.post('/api/auth/register', data);
     return response.data;
   },
+
+  // 로그아웃 - 서버의 리프레시 토큰 폐기 후 로컬 세션 정리
+  logout: async (): Promise<void> => {
+    const refreshToken = localStorage.getItem('refresh-token');
+    try {
+      if (refreshToken) {
+        await apiClient.post('/api/auth/logout', { refreshToken });
+      }
+    } catch (err) {
+      console.error('Failed to revoke refresh token:', err);
+    } finally {
+      localStorage.removeItem('auth-token');
+      localStorage.removeItem('refresh-token');
+      localStorage.removeItem('user');
+    }
+  },
 };
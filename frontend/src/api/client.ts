@@ -18,30 +18,68 @@ apiClient.interceptors.request.use((config) => {
   return config;
 });
 
+// 액세스 토큰 재발급 (동시에 여러 요청이 401을 받아도 한 번만 호출)
+let refreshPromise: Promise<string> | null = null;
+
+const refreshAccessToken = (): Promise<string> => {
+  if (!refreshPromise) {
+    const refreshToken = localStorage.getItem('refresh-token');
+    refreshPromise = (refreshToken
+      ? axios.post(`${API_BASE_URL}/api/auth/refresh`, { refreshToken })
+          .then((response) => {
+            localStorage.setItem('auth-token', response.data.token);
+            localStorage.setItem('refresh-token', response.data.refreshToken);
+            localStorage.setItem('user', JSON.stringify(response.data));
+            return response.data.token as string;
+          })
+      : Promise.reject(new Error('no refresh token'))
+    ).finally(() => {
+      refreshPromise = null;
+    });
+  }
+  return refreshPromise;
+};
+
+const clearSession = () => {
+  localStorage.removeItem('auth-token');
+  localStorage.removeItem('refresh-token');
+  localStorage.removeItem('user');
+  window.location.href = '/login';
+};
+
 // 응답 인터셉터 - 에러 처리
 apiClient.interceptors.response.use(
     (response) => response,
-    (error) => {
+    async (error) => {
         const status = error.response?.status;
         const message = error.response?.data?.message ?? '';
+        const originalRequest = error.config;
 
         // 1️⃣ 401 중에서도 "세션/토큰 문제"만 전역 처리
         if (status === 401) {
-            const isLoginRequest =
-                error.config?.url?.includes('/auth/login');
+            const isAuthRequest =
+                originalRequest?.url?.includes('/auth/');
 
             const isInvalidCredential =
                 message.includes('아이디') ||
                 message.includes('비밀번호');
 
-            if (!isLoginRequest && !isInvalidCredential) {
-                // 토큰 문제로 판단
-                localStorage.removeItem('auth-token');
-                window.location.href = '/login';
+            if (!isAuthRequest && !isInvalidCredential) {
+                // 2️⃣ 액세스 토큰 만료 → 리프레시 토큰으로 재발급 후 원래 요청 1회 재시도
+                if (originalRequest && !originalRequest._retry) {
+                    originalRequest._retry = true;
+                    try {
+                        const token = await refreshAccessToken();
+                        originalRequest.headers.Authorization = `Bearer ${token}`;
+                        return apiClient(originalRequest);
+                    } catch {
+                        // 재발급 실패 → 로그인 화면으로
+                    }
+                }
+                clearSession();
             }
         }
 
         return Promise.reject(error);
     }
 );
-
@@ -1,6 +1,6 @@
 import { apiClient } from './client';
-import type { FoundItem, FoundItemCreateRequest, FoundItemUpdateRequest } from '@/types/found.types';
-import type { Page, Pageable } from '@/types/common.types';
+import type { FoundItem, FoundItemCreateRequest, FoundItemUpdateRequest, FoundStatus } from '@/types/found.types';
+import type { CursorPage, Page, Pageable } from '@/types/common.types';
 
 export const foundApi = {
   // 습득물 등록
@@ -21,6 +21,18 @@ export const foundApi = {
     return response.data;
   },
 
+  // 커서 기반 목록 (최신순, 전체 개수 없음)
+  getFeed: async (params: { status?: FoundStatus; after?: string | null; limit?: number }): Promise<CursorPage<FoundItem>> => {
+    const response = await apiClient.get('/api/found/feed', {
+      params: {
+        status: params.status,
+        after: params.after ?? undefined,
+        limit: params.limit,
+      },
+    });
+    return response.data;
+  },
+
   // 내 습득물 목록
   getMy: async (): Promise<FoundItem[]> => {
     const response = await apiClient.get('/api/found/my');
@@ -1,6 +1,6 @@
 import { apiClient } from './client';
-import type { LostItem, LostItemCreateRequest, LostItemUpdateRequest } from '@/types/lost.types';
-import type { Page, Pageable } from '@/types/common.types';
+import type { LostItem, LostItemCreateRequest, LostItemUpdateRequest, LostStatus } from '@/types/lost.types';
+import type { CursorPage, Page, Pageable } from '@/types/common.types';
 
 export const lostApi = {
   // 분실 신고 등록
@@ -21,6 +21,18 @@ export const lostApi = {
     return response.data;
   },
 
+  // 커서 기반 목록 (최신순, 전체 개수 없음)
+  getFeed: async (params: { status?: LostStatus; after?: string | null; limit?: number }): Promise<CursorPage<LostItem>> => {
+    const response = await apiClient.get('/api/lost/feed', {
+      params: {
+        status: params.status,
+        after: params.after ?? undefined,
+        limit: params.limit,
+      },
+    });
+    return response.data;
+  },
+
   // 내 분실 신고 목록
   getMy: async (): Promise<LostItem[]> => {
     const response = await apiClient.get('/api/lost/my');
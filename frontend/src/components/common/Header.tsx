@@ -2,6 +2,7 @@ import { useNavigate } from 'react-router-dom';
 import { useEffect, useState } from 'react';
 import type { LoginResponse } from '@/types/auth.types';
 import { notificationApi } from '@/api/notification.api';
+import { authApi } from '@/api/auth.api';
 
 export default function Header() {
   const navigate = useNavigate();
@@ -31,9 +32,7 @@ export default function Header() {
   };
 
   const handleLogout = () => {
-    localStorage.removeItem('auth-token');
-    localStorage.removeItem('user');
-    navigate('/login');
+    authApi.logout().finally(() => navigate('/login'));
   };
 
   const getRoleLabel = (role: string): string => {
@@ -22,6 +22,7 @@ export default function LoginPage() {
       
       // 토큰 저장
       localStorage.setItem('auth-token', response.token);
+      localStorage.setItem('refresh-token', response.refreshToken);
       localStorage.setItem('user', JSON.stringify(response));
       
       // 대시보드로 이동
@@ -3,6 +3,7 @@ import { useNavigate } from 'react-router-dom';
 import { lostApi } from '@/api/lost.api';
 import { foundApi } from '@/api/found.api';
 import { handoverApi } from '@/api/handover.api';
+import { authApi } from '@/api/auth.api';
 import type { LoginResponse } from '@/types/auth.types';
 import Loading from '@/components/common/Loading';
 
@@ -53,9 +54,7 @@ export default function ProfilePage() {
   const handleLogout = () => {
     if (!confirm('로그아웃 하시겠습니까?')) return;
     
-    localStorage.removeItem('auth-token');
-    localStorage.removeItem('user');
-    navigate('/login');
+    authApi.logout().finally(() => navigate('/login'));
   };
 
   if (loading) return <Loading />;
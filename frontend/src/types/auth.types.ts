@@ -19,6 +19,7 @@ export interface LoginRequest {
 
 export interface LoginResponse {
   token: string;
+  refreshToken: string;
   id: number;
   username: string;
   nickname: string;
@@ -23,3 +23,10 @@ export interface Page<T> {
   first: boolean;
   last: boolean;
 }
+
+// 커서 기반 목록 (무한 스크롤) - nextCursor를 다음 요청의 after로 전달
+export interface CursorPage<T> {
+  content: T[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
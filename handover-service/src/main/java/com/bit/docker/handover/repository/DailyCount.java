@@ -0,0 +1,9 @@
+package com.bit.docker.handover.repository;
+
+import java.time.LocalDate;
+
+// 완료일별 개수 (DailyCounter 초기 적재/재동기화용)
+public interface DailyCount {
+    LocalDate getCompletedOn();
+    Long getTotal();
+}
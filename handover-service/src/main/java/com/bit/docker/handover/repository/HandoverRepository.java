@@ -5,6 +5,8 @@ import com.bit.docker.handover.model.HandoverStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -30,10 +32,11 @@ public interface HandoverRepository extends JpaRepository<Handover, Long> {
     // 분실 신고 + 습득물 조합으로 조회
     Optional<Handover> findByLostIdAndFoundId(Long lostId, Long foundId);
 
-    // 기간별 상태별 통계 (Admin에서 호출)
-    long countByStatusAndCompletedAtBetween(
-        HandoverStatus status,
-        java.time.LocalDateTime startDate,
-        java.time.LocalDateTime endDate
-    );
+    // 상태별 완료일별 개수 (일별 집계표 적재용)
+    @Query("SELECT cast(h.completedAt as LocalDate) AS completedOn, COUNT(h) AS total FROM Handover h " +
+           "WHERE h.status = :status AND h.completedAt IS NOT NULL GROUP BY cast(h.completedAt as LocalDate)")
+    List<DailyCount> countByStatusGroupByCompletedDate(@Param("status") HandoverStatus status);
+
+    // 완료일 없이 완료된 기존 행 개수 (날짜 없는 전체 개수에 포함)
+    long countByStatusAndCompletedAtIsNull(HandoverStatus status);
 }
@@ -0,0 +1,10 @@
+package com.bit.docker.handover.service;
+
+import java.time.LocalDateTime;
+
+// 인계 완료 (커밋 후 DailyCounter 반영) - 완료된 건은 취소할 수 없으므로 감소 이벤트는 없음
+public record HandoverCompletedEvent(
+        Long id,
+        LocalDateTime completedAt
+) {
+}
@@ -9,6 +9,7 @@ import com.bit.docker.handover.model.Handover;
 import com.bit.docker.handover.model.HandoverStatus;
 import com.bit.docker.handover.repository.HandoverRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -17,17 +18,24 @@ import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class HandoverService {
+    // SECURITY 사용자 목록 조회 페이지 크기
+    private static final int SECURITY_USER_PAGE_SIZE = 100;
+    
     private final HandoverRepository handoverRepository;
     private final RestTemplate restTemplate;
     private final ServiceUrlProperties serviceUrlProperties;
+    private final DailyCounter dailyCounter;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 인계 요청 생성 (E1. 분실자가 후보 습득물에 대해 인계 요청)
     @Transactional
@@ -118,22 +126,34 @@ public class HandoverService {
     // SECURITY에게 검수 필요 알림 전송
     private void sendSecurityCheckNotification(Long handoverId, String category) {
         try {
-            // User 서비스에서 SECURITY 역할 사용자 목록 조회
-            String url = serviceUrlProperties.getUserService().getUrl() + "/api/users/by-role/SECURITY";
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> securityUsers = restTemplate.getForObject(url, List.class);
-
-            if (securityUsers != null) {
-                for (Map<String, Object> user : securityUsers) {
-                    Long userId = ((Number) user.get("id")).longValue();
-                    sendNotification(
-                        userId,
-                        "SECURITY_CHECK_REQUIRED",
-                        "보안 검수 필요",
-                        "인계 요청 #" + handoverId + " - " + category + " 카테고리 검수가 필요합니다.",
-                        handoverId
-                    );
+            // User 서비스에서 SECURITY 역할 사용자 목록 조회 (Page<{id, nickname}>, 페이지 단위로 끝까지)
+            int page = 0;
+            boolean last = false;
+            while (!last) {
+                String url = serviceUrlProperties.getUserService().getUrl()
+                    + "/api/users/by-role/SECURITY?page=" + page + "&size=" + SECURITY_USER_PAGE_SIZE + "&sort=id";
+                @SuppressWarnings("unchecked")
+                Map<String, Object> securityUsers = restTemplate.getForObject(url, Map.class);
+                if (securityUsers == null) {
+                    break;
                 }
+                
+                @SuppressWarnings("unchecked")
+                List<Map<String, Object>> content = (List<Map<String, Object>>) securityUsers.get("content");
+                if (content != null) {
+                    for (Map<String, Object> user : content) {
+                        Long userId = ((Number) user.get("id")).longValue();
+                        sendNotification(
+                            userId,
+                            "SECURITY_CHECK_REQUIRED",
+                            "보안 검수 필요",
+                            "인계 요청 #" + handoverId + " - " + category + " 카테고리 검수가 필요합니다.",
+                            handoverId
+                        );
+                    }
+                }
+                last = content == null || content.isEmpty() || Boolean.TRUE.equals(securityUsers.get("last"));
+                page++;
             }
         } catch (Exception e) {
             System.err.println("SECURITY 알림 전송 실패: " + e.getMessage());
@@ -295,6 +315,7 @@ public class HandoverService {
         
         handover.setStatus(HandoverStatus.COMPLETED);
         handover.setCompletedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(new HandoverCompletedEvent(handover.getId(), handover.getCompletedAt()));
         
         // Lost 서비스 호출 - status를 CLOSED로 변경
         closeLostItem(handover.getLostId());
@@ -382,80 +403,94 @@ public class HandoverService {
     
     // 전체 목록 (관리자/OFFICE용)
     public Page<HandoverResponse> getAllHandovers(Pageable pageable) {
-        return handoverRepository.findAll(pageable)
-            .map(this::enrichHandoverResponse);
+        Page<Handover> handovers = handoverRepository.findAll(pageable);
+        // 페이지 안의 닉네임/분실물/습득물 제목을 서비스별로 한 번에 조회 (건별 호출 제거)
+        Map<Long, String> nicknames = getUserNicknames(handovers.getContent());
+        Map<Long, String> lostTitles = getTitles(
+            serviceUrlProperties.getLostService().getUrl() + "/api/lost/batch",
+            handovers.getContent().stream().map(Handover::getLostId).collect(Collectors.toCollection(HashSet::new)), "Lost");
+        Map<Long, String> foundTitles = getTitles(
+            serviceUrlProperties.getFoundService().getUrl() + "/api/found/batch",
+            handovers.getContent().stream().map(Handover::getFoundId).collect(Collectors.toCollection(HashSet::new)), "Found");
+        return handovers.map(handover -> enrichHandoverResponse(handover, nicknames, lostTitles, foundTitles));
     }
 
     // 기간별 완료 통계 (Admin에서 호출)
     public long countCompletedByDateRange(java.time.LocalDate startDate, java.time.LocalDate endDate) {
-        if (startDate == null || endDate == null) {
-            return handoverRepository.findAll().stream()
-                .filter(h -> h.getStatus() == HandoverStatus.COMPLETED)
-                .count();
-        }
-        // LocalDate를 LocalDateTime으로 변환 (하루의 시작과 끝)
-        java.time.LocalDateTime startDateTime = startDate.atStartOfDay();
-        java.time.LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
-        return handoverRepository.countByStatusAndCompletedAtBetween(
-            HandoverStatus.COMPLETED, startDateTime, endDateTime
-        );
+        // 일별 집계표 구간 합산 (날짜가 없으면 전체)
+        return dailyCounter.count(startDate, endDate);
     }
     
     // ==================== 헬퍼 메서드 ====================
     
     // HandoverResponse에 외부 정보 추가
-    @SuppressWarnings("unchecked")
-    private HandoverResponse enrichHandoverResponse(Handover handover) {
+    private HandoverResponse enrichHandoverResponse(Handover handover,
+                                                    Map<Long, String> nicknames,
+                                                    Map<Long, String> lostTitles,
+                                                    Map<Long, String> foundTitles) {
         HandoverResponse response = HandoverResponse.from(handover);
         
-        try {
-            // Lost 정보 조회
-            String lostUrl = serviceUrlProperties.getLostService().getUrl() + "/api/lost/" + handover.getLostId();
-            Map<String, Object> lostItem = restTemplate.getForObject(lostUrl, Map.class);
-            if (lostItem != null) {
-                response.setLostTitle((String) lostItem.get("title"));
-            }
-        } catch (Exception e) {
-            System.err.println("Lost 정보 조회 실패: " + e.getMessage());
-            response.setLostTitle("분실물 #" + handover.getLostId());
-        }
+        // Lost/Found 정보 (일괄 조회 결과, 없으면 ID로 표시)
+        response.setLostTitle(lostTitles.getOrDefault(
+            handover.getLostId(), "분실물 #" + handover.getLostId()));
+        response.setFoundTitle(foundTitles.getOrDefault(
+            handover.getFoundId(), "습득물 #" + handover.getFoundId()));
         
-        try {
-            // Found 정보 조회
-            FoundItemDTO foundItem = getFoundItemById(handover.getFoundId());
-            if (foundItem != null) {
-                response.setFoundTitle(foundItem.getTitle());
-            }
-        } catch (Exception e) {
-            System.err.println("Found 정보 조회 실패: " + e.getMessage());
-            response.setFoundTitle("습득물 #" + handover.getFoundId());
+        // User 정보 (일괄 조회 결과, 없으면 ID로 표시)
+        response.setRequesterName(nicknames.getOrDefault(
+            handover.getRequesterId(), "사용자 #" + handover.getRequesterId()));
+        response.setResponderName(nicknames.getOrDefault(
+            handover.getResponderId(), "사용자 #" + handover.getResponderId()));
+        
+        return response;
+    }
+    
+    // User 서비스에서 요청자/습득자 닉네임 일괄 조회 (POST /api/users/batch)
+    @SuppressWarnings("unchecked")
+    private Map<Long, String> getUserNicknames(List<Handover> handovers) {
+        Set<Long> userIds = new HashSet<>();
+        for (Handover handover : handovers) {
+            userIds.add(handover.getRequesterId());
+            userIds.add(handover.getResponderId());
+        }
+        userIds.remove(null);
+        if (userIds.isEmpty()) {
+            return Map.of();
         }
         
+        Map<Long, String> nicknames = new HashMap<>();
         try {
-            // User 정보 조회
-            String userUrl = serviceUrlProperties.getUserService().getUrl() + "/api/users/" + handover.getRequesterId();
-            Map<String, Object> requester = restTemplate.getForObject(userUrl, Map.class);
-            if (requester != null) {
-                response.setRequesterName((String) requester.get("nickname"));
+            String url = serviceUrlProperties.getUserService().getUrl() + "/api/users/batch";
+            Map<String, Map<String, Object>> users =
+                restTemplate.postForObject(url, Map.of("ids", userIds), Map.class);
+            if (users != null) {
+                users.forEach((id, user) -> nicknames.put(Long.valueOf(id), (String) user.get("nickname")));
             }
         } catch (Exception e) {
-            System.err.println("Requester 정보 조회 실패: " + e.getMessage());
-            response.setRequesterName("사용자 #" + handover.getRequesterId());
+            System.err.println("User 일괄 조회 실패: " + e.getMessage());
+        }
+        return nicknames;
+    }
+    
+    // Lost/Found 서비스에서 제목 일괄 조회 (POST /api/lost/batch, /api/found/batch)
+    @SuppressWarnings("unchecked")
+    private Map<Long, String> getTitles(String url, Set<Long> ids, String serviceName) {
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            return Map.of();
         }
         
+        Map<Long, String> titles = new HashMap<>();
         try {
-            // User 정보 조회
-            String userUrl = serviceUrlProperties.getUserService().getUrl() + "/api/users/" + handover.getResponderId();
-            Map<String, Object> responder = restTemplate.getForObject(userUrl, Map.class);
-            if (responder != null) {
-                response.setResponderName((String) responder.get("nickname"));
+            Map<String, Map<String, Object>> items =
+                restTemplate.postForObject(url, Map.of("ids", ids), Map.class);
+            if (items != null) {
+                items.forEach((id, item) -> titles.put(Long.valueOf(id), (String) item.get("title")));
             }
         } catch (Exception e) {
-            System.err.println("Responder 정보 조회 실패: " + e.getMessage());
-            response.setResponderName("사용자 #" + handover.getResponderId());
+            System.err.println(serviceName + " 일괄 조회 실패: " + e.getMessage());
         }
-        
-        return response;
+        return titles;
     }
     
     // Found 서비스에서 습득물 조회
@@ -472,7 +507,8 @@ public class HandoverService {
     // Lost 서비스 상태 업데이트 (인계 완료 시 CLOSED로 변경)
     private void closeLostItem(Long lostId) {
         try {
-            String url = serviceUrlProperties.getLostService().getUrl() + "/api/lost/" + lostId + "/status";
+            // 이미 닫혔거나 다른 요청이 먼저 바꾼 경우 덮어쓰지 않음 (409)
+            String url = serviceUrlProperties.getLostService().getUrl() + "/api/lost/" + lostId + "/status?expected=OPEN,MATCHED";
             Map<String, String> request = new HashMap<>();
             request.put("status", "CLOSED");
             restTemplate.put(url, request);
@@ -484,7 +520,8 @@ public class HandoverService {
     // Found 서비스 상태 업데이트 (인계 완료 시 HANDED_OVER로 변경)
     private void markFoundItemAsHandedOver(Long foundId) {
         try {
-            String url = serviceUrlProperties.getFoundService().getUrl() + "/api/found/" + foundId + "/status";
+            // 폐기/인계 완료된 습득물은 덮어쓰지 않음 (409)
+            String url = serviceUrlProperties.getFoundService().getUrl() + "/api/found/" + foundId + "/status?expected=REGISTERED,STORED,IN_HANDOVER";
             Map<String, String> request = new HashMap<>();
             request.put("status", "HANDED_OVER");
             restTemplate.put(url, request);
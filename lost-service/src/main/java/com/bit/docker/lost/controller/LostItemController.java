@@ -1,23 +1,41 @@
 package com.bit.docker.lost.controller;
 
 import com.bit.docker.lost.dto.request.LostItemCreateRequest;
+import com.bit.docker.lost.dto.request.LostItemBatchRequest;
+import com.bit.docker.lost.dto.request.LostItemFilterRequest;
 import com.bit.docker.lost.dto.request.LostItemUpdateRequest;
+import com.bit.docker.lost.dto.response.ChangeFeedResponse;
+import com.bit.docker.lost.dto.response.LostItemFilterResponse;
+import com.bit.docker.lost.dto.response.CursorPage;
 import com.bit.docker.lost.dto.response.LostItemResponse;
+import com.bit.docker.lost.dto.response.LostItemSearchResponse;
+import com.bit.docker.lost.model.Category;
+import com.bit.docker.lost.repository.LostItemSummary;
+import com.bit.docker.lost.model.LostStatus;
+import com.bit.docker.lost.service.ChangeFeed;
+import com.bit.docker.lost.service.StatusConflictException;
 import com.bit.docker.lost.service.LostItemService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/lost")
 @RequiredArgsConstructor
 public class LostItemController {
     private final LostItemService lostItemService;
+    private final ChangeFeed changeFeed;
     
     // 분실 신고 등록
     @PostMapping
@@ -42,6 +60,59 @@ public class LostItemController {
         return ResponseEntity.ok(response);
     }
     
+    // 분실 신고 목록 (커서 기반 무한 스크롤) - GET /feed?status=&after=&limit=
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPage<LostItemResponse>> getLostItemFeed(
+        @RequestParam(required = false) LostStatus status,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        CursorPage<LostItemResponse> response = lostItemService.getLostItemFeed(status, after, limit);
+        return ResponseEntity.ok(response);
+    }
+    
+    // 보관된 분실 신고 목록 (완료 후 보관 기간이 지난 건) - GET /archive?page=&size=
+    @GetMapping("/archive")
+    public ResponseEntity<Page<LostItemResponse>> getArchivedLostItems(Pageable pageable) {
+        Page<LostItemResponse> response = lostItemService.getArchivedLostItems(pageable);
+        return ResponseEntity.ok(response);
+    }
+    
+    // 변경 피드 - sinceSeq 이후 변경 기록 (없으면 waitMillis 동안 대기, long-polling)
+    // GET /changes?sinceSeq=&limit=&waitMillis= -> 응답의 nextSeq를 다음 sinceSeq로 사용
+    @GetMapping("/changes")
+    public DeferredResult<ChangeFeedResponse> getChanges(
+        @RequestParam(defaultValue = "0") long sinceSeq,
+        @RequestParam(defaultValue = "100") int limit,
+        @RequestParam(defaultValue = "20000") long waitMillis
+    ) {
+        return changeFeed.poll(sinceSeq, limit, waitMillis);
+    }
+    
+    // 분실 신고 검색 (관련도 순) - GET /search?q=&category=&status=&from=&to=&page=&size=
+    @GetMapping("/search")
+    public ResponseEntity<Slice<LostItemSearchResponse>> searchLostItems(
+        @RequestParam String q,
+        @RequestParam(required = false) Category category,
+        @RequestParam(required = false) LostStatus status,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        Pageable pageable
+    ) {
+        Slice<LostItemSearchResponse> response = lostItemService.searchLostItems(q, category, status, from, to, pageable);
+        return ResponseEntity.ok(response);
+    }
+    
+    // 분실 신고 조합 필터 + 패싯 개수 - GET /filter?category=&status=&place=&from=&to=&page=&size=&sort=
+    @GetMapping("/filter")
+    public ResponseEntity<LostItemFilterResponse> filterLostItems(
+        @ModelAttribute LostItemFilterRequest filter,
+        Pageable pageable
+    ) {
+        LostItemFilterResponse response = lostItemService.filterLostItems(filter, pageable);
+        return ResponseEntity.ok(response);
+    }
+    
     // 내 분실 신고 목록
     @GetMapping("/my")
     public ResponseEntity<List<LostItemResponse>> getMyLostItems(
@@ -51,6 +122,13 @@ public class LostItemController {
         return ResponseEntity.ok(response);
     }
     
+    // 분실 신고 일괄 조회 (다른 서비스에서 호출) - { id: {userId, category, title, ...} }
+    @PostMapping("/batch")
+    public ResponseEntity<Map<Long, LostItemSummary>> getLostItemSummaries(@RequestBody LostItemBatchRequest request) {
+        Map<Long, LostItemSummary> response = lostItemService.getLostItemSummaries(request.getIds());
+        return ResponseEntity.ok(response);
+    }
+    
     // 분실 신고 상세
     @GetMapping("/{id}")
     public ResponseEntity<LostItemResponse> getLostItem(@PathVariable Long id) {
@@ -96,14 +174,19 @@ public class LostItemController {
     }
     
     // 상태 업데이트 (Handover에서 호출)
+    // expected가 있으면 현재 상태가 그 중 하나일 때만 변경 - PUT /{id}/status?expected=A,B (아니면 409)
     @PutMapping("/{id}/status")
     public ResponseEntity<Void> updateStatus(
         @PathVariable Long id,
-        @RequestBody java.util.Map<String, String> request
+        @RequestParam(required = false) List<LostStatus> expected,
+        @RequestBody Map<String, String> request
     ) {
-        String status = request.get("status");
-        com.bit.docker.lost.model.LostStatus lostStatus = com.bit.docker.lost.model.LostStatus.valueOf(status);
-        lostItemService.updateStatus(id, lostStatus);
+        LostStatus status = LostStatus.valueOf(request.get("status"));
+        if (expected == null || expected.isEmpty()) {
+            lostItemService.updateStatus(id, status);
+        } else {
+            lostItemService.compareAndSetStatus(id, expected, status);
+        }
         return ResponseEntity.ok().build();
     }
     
@@ -116,4 +199,18 @@ public class LostItemController {
         long count = lostItemService.countByDateRange(startDate, endDate);
         return ResponseEntity.ok(java.util.Map.of("count", count));
     }
+
+    // 조건부 상태 변경 실패 -> 409 (현재 상태 포함)
+    @ExceptionHandler(StatusConflictException.class)
+    public ResponseEntity<Map<String, String>> handleStatusConflict(StatusConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(Map.of("message", e.getMessage(), "currentStatus", e.getCurrentStatus().name()));
+    }
+
+    // 동시 수정 충돌 (version 불일치) -> 409
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLock(ObjectOptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(Map.of("message", "다른 요청이 먼저 수정했습니다. 다시 조회 후 시도해주세요."));
+    }
 }
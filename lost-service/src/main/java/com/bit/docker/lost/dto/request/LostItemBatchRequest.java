@@ -0,0 +1,14 @@
+package com.bit.docker.lost.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LostItemBatchRequest {
+    private List<Long> ids;
+}
@@ -0,0 +1,26 @@
+package com.bit.docker.lost.dto.request;
+
+import com.bit.docker.lost.model.Category;
+import com.bit.docker.lost.model.LostStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// 분실 신고 조합 필터 (모두 선택 항목)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LostItemFilterRequest {
+    private Category category;
+    private LostStatus status;
+    private String place;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+}
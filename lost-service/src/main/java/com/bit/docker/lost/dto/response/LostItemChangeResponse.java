@@ -0,0 +1,34 @@
+package com.bit.docker.lost.dto.response;
+
+import com.bit.docker.lost.model.Category;
+import com.bit.docker.lost.model.ChangeType;
+import com.bit.docker.lost.model.LostItemChange;
+import com.bit.docker.lost.model.LostStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LostItemChangeResponse {
+    private Long seq;
+    private Long itemId;
+    private ChangeType changeType;
+    private Category category;
+    private LostStatus status;
+    private LocalDateTime changedAt;
+
+    public static LostItemChangeResponse from(LostItemChange change) {
+        return new LostItemChangeResponse(
+            change.getSeq(),
+            change.getItemId(),
+            change.getChangeType(),
+            change.getCategory(),
+            change.getStatus(),
+            change.getChangedAt()
+        );
+    }
+}
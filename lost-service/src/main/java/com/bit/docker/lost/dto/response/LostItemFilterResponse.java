@@ -0,0 +1,21 @@
+package com.bit.docker.lost.dto.response;
+
+import com.bit.docker.lost.model.Category;
+import com.bit.docker.lost.model.LostStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+// 조합 필터 결과 + 패싯 개수
+// categoryCounts: 선택한 상태 기준 카테고리별 개수 / statusCounts: 선택한 카테고리 기준 상태별 개수
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LostItemFilterResponse {
+    private Page<LostItemResponse> items;
+    private Map<Category, Long> categoryCounts;
+    private Map<LostStatus, Long> statusCounts;
+}
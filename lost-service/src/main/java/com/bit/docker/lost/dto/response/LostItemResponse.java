@@ -2,6 +2,7 @@ package com.bit.docker.lost.dto.response;
 
 import com.bit.docker.lost.model.Category;
 import com.bit.docker.lost.model.LostItem;
+import com.bit.docker.lost.model.LostItemArchive;
 import com.bit.docker.lost.model.LostStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -40,4 +41,21 @@ public class LostItemResponse {
             item.getUpdatedAt()
         );
     }
+
+    // 보관 테이블 단건 조회
+    public static LostItemResponse from(LostItemArchive item) {
+        return new LostItemResponse(
+            item.getId(),
+            item.getUserId(),
+            item.getCategory(),
+            item.getTitle(),
+            item.getDescription(),
+            item.getLostAt(),
+            item.getLostPlace(),
+            item.getReward(),
+            item.getStatus(),
+            item.getCreatedAt(),
+            item.getUpdatedAt()
+        );
+    }
 }
@@ -0,0 +1,16 @@
+package com.bit.docker.lost.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 검색 결과 한 건 - 관련도 점수 + 검색어를 <em>으로 감싼 제목/설명 발췌 (HTML 이스케이프 후 적용)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LostItemSearchResponse {
+    private LostItemResponse item;
+    private double score;
+    private String highlightedTitle;
+    private String highlightedDescription;
+}
@@ -7,7 +7,15 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "lost_items")
+@Table(name = "lost_items", indexes = {
+    // 커서 목록 (/feed) - 상태별: (status, createdAt, id) / 전체: (createdAt, id)
+    @Index(name = "idx_lost_items_status_created_id", columnList = "status, createdAt, id"),
+    @Index(name = "idx_lost_items_created_id", columnList = "createdAt, id"),
+    // 보관 대상 조회 (완료 상태 + 마지막 수정 시각)
+    @Index(name = "idx_lost_items_status_updated", columnList = "status, updatedAt"),
+    // 조합 필터 (/filter) - 카테고리/상태 + 분실 일시 범위
+    @Index(name = "idx_lost_items_category_status_lost_at", columnList = "category, status, lostAt")
+})
 @Data
 @NoArgsConstructor
 public class LostItem {
@@ -43,6 +51,11 @@ public class LostItem {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // 낙관적 잠금 - 동시 수정은 나중에 커밋하는 쪽이 충돌로 실패 (기존 행은 0부터)
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,48 @@
+package com.bit.docker.lost.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 보관 기간이 지난 완료 분실 신고 (lost_items에서 옮겨 옴) - 단건/보관 목록 조회만 하므로 인덱스 최소화
+@Entity
+@Table(name = "lost_items_archive", indexes = {
+    @Index(name = "idx_lost_items_archive_created_id", columnList = "createdAt, id")
+})
+@Data
+@NoArgsConstructor
+public class LostItemArchive {
+    @Id
+    private Long id;  // lost_items의 ID 그대로
+
+    @Column(nullable = false)
+    private Long userId;  // 분실자 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private Category category;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(nullable = false)
+    private LocalDateTime lostAt;  // 분실 시각
+
+    @Column(nullable = false, length = 200)
+    private String lostPlace;  // 분실 장소
+
+    private Integer reward;  // 사례금 (옵션)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LostStatus status;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime archivedAt;
+}
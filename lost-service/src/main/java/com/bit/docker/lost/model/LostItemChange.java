@@ -0,0 +1,41 @@
+package com.bit.docker.lost.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 분실 신고 변경 기록 (변경 피드) - 본 변경과 같은 트랜잭션에서 기록, seq 순서로 소비
+@Entity
+@Table(name = "lost_item_changes")
+@Data
+@NoArgsConstructor
+public class LostItemChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(nullable = false)
+    private Long itemId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChangeType changeType;
+
+    // 변경 후 값 (삭제면 null)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private Category category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private LostStatus status;
+
+    private LocalDateTime changedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        changedAt = LocalDateTime.now();
+    }
+}
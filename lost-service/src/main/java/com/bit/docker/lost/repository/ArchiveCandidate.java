@@ -0,0 +1,11 @@
+package com.bit.docker.lost.repository;
+
+import com.bit.docker.lost.model.Category;
+import com.bit.docker.lost.model.LostStatus;
+
+// 보관 처리 대상 (이동 후 패싯 집계/변경 피드 반영용)
+public interface ArchiveCandidate {
+    Long getId();
+    Category getCategory();
+    LostStatus getStatus();
+}
@@ -0,0 +1,11 @@
+package com.bit.docker.lost.repository;
+
+import com.bit.docker.lost.model.Category;
+import com.bit.docker.lost.model.LostStatus;
+
+// 카테고리 x 상태별 개수 (FacetCounter 초기 적재/재동기화용)
+public interface CategoryStatusCount {
+    Category getCategory();
+    LostStatus getStatus();
+    Long getTotal();
+}
@@ -0,0 +1,12 @@
+package com.bit.docker.lost.repository;
+
+import com.bit.docker.lost.model.LostItemArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface LostItemArchiveRepository extends JpaRepository<LostItemArchive, Long> {
+    // 일괄 조회에서 본 테이블에 없는 ID 보충 (요약 컬럼만)
+    List<LostItemSummary> findByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,21 @@
+package com.bit.docker.lost.repository;
+
+import com.bit.docker.lost.model.LostItemChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface LostItemChangeRepository extends JpaRepository<LostItemChange, Long> {
+
+    // (sinceSeq, untilSeq] 구간 변경 기록 - PK 범위 조회
+    @Query("SELECT c FROM LostItemChange c WHERE c.seq > :sinceSeq AND c.seq <= :untilSeq ORDER BY c.seq")
+    List<LostItemChange> findRange(@Param("sinceSeq") long sinceSeq,
+                                   @Param("untilSeq") long untilSeq,
+                                   Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(c.seq), 0) FROM LostItemChange c")
+    long findMaxSeq();
+}
@@ -0,0 +1,46 @@
+package com.bit.docker.lost.repository;
+
+import com.bit.docker.lost.model.Category;
+import com.bit.docker.lost.model.LostItem;
+import com.bit.docker.lost.model.LostStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+// 분실 신고 조합 필터 조건 - 값이 없으면 null을 반환해 조건에서 빠짐
+public final class LostItemSpecifications {
+
+    private LostItemSpecifications() {
+    }
+
+    public static Specification<LostItem> hasCategory(Category category) {
+        return category == null ? null : (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    public static Specification<LostItem> hasStatus(LostStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    // 장소는 부분 일치 (%, _ 는 문자 그대로 검색)
+    public static Specification<LostItem> placeContains(String place) {
+        if (place == null || place.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + place.trim()
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(root.get("lostPlace"), pattern, '\\');
+    }
+
+    // 분실일 from ~ to (양 끝 포함)
+    public static Specification<LostItem> lostAtFrom(LocalDate from) {
+        return from == null ? null
+            : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("lostAt"), from.atStartOfDay());
+    }
+
+    public static Specification<LostItem> lostAtTo(LocalDate to) {
+        return to == null ? null
+            : (root, query, cb) -> cb.lessThan(root.get("lostAt"), to.plusDays(1).atStartOfDay());
+    }
+}
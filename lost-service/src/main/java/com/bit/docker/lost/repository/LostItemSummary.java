@@ -0,0 +1,17 @@
+package com.bit.docker.lost.repository;
+
+import com.bit.docker.lost.model.Category;
+import com.bit.docker.lost.model.LostStatus;
+
+import java.time.LocalDateTime;
+
+// 다른 서비스의 목록 화면용 요약 (설명 TEXT 등은 읽지 않음)
+public interface LostItemSummary {
+    Long getId();
+    Long getUserId();
+    Category getCategory();
+    String getTitle();
+    String getLostPlace();
+    LocalDateTime getLostAt();
+    LostStatus getStatus();
+}
@@ -0,0 +1,7 @@
+package com.bit.docker.lost.repository;
+
+// 전문 검색 결과 (id + 관련도 점수) - 본문은 id로 다시 조회
+public interface SearchHit {
+    Long getId();
+    Double getScore();
+}
@@ -0,0 +1,102 @@
+package com.bit.docker.lost.service;
+
+import com.bit.docker.lost.model.Category;
+import com.bit.docker.lost.model.LostStatus;
+import com.bit.docker.lost.repository.CategoryStatusCount;
+import com.bit.docker.lost.repository.LostItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 패싯 개수 (카테고리 x 상태) 메모리 집계표
+ * - 기동 시 GROUP BY 한 번으로 적재, 이후에는 변경 이벤트(커밋 후)로 +1/-1
+ * - 누락/중복 반영이 있어도 주기적으로 DB 집계로 다시 맞춤 (facets.reconcile-interval-millis)
+ * - 조회 시 GROUP BY 없이 표에서 합산
+ */
+@Component
+@RequiredArgsConstructor
+public class FacetCounter {
+    private static final Category[] CATEGORIES = Category.values();
+    private static final LostStatus[] STATUSES = LostStatus.values();
+
+    private final LostItemRepository lostItemRepository;
+
+    // [category][status] 를 ordinal 기준으로 펼친 배열
+    private volatile AtomicLongArray counts = new AtomicLongArray(CATEGORIES.length * STATUSES.length);
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${facets.reconcile-interval-millis:600000}",
+               initialDelayString = "${facets.reconcile-interval-millis:600000}")
+    public void reload() {
+        AtomicLongArray fresh = new AtomicLongArray(CATEGORIES.length * STATUSES.length);
+        for (CategoryStatusCount row : lostItemRepository.countGroupByCategoryAndStatus()) {
+            fresh.set(index(row.getCategory(), row.getStatus()), row.getTotal());
+        }
+        counts = fresh;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLostItemChanged(LostItemChangedEvent event) {
+        if (event.oldCategory() == event.newCategory() && event.oldStatus() == event.newStatus()) {
+            return;
+        }
+        AtomicLongArray current = counts;
+        if (event.oldCategory() != null && event.oldStatus() != null) {
+            current.decrementAndGet(index(event.oldCategory(), event.oldStatus()));
+        }
+        if (event.newCategory() != null && event.newStatus() != null) {
+            current.incrementAndGet(index(event.newCategory(), event.newStatus()));
+        }
+    }
+
+    // 보관 테이블로 옮긴 건은 본 테이블 집계에서 제외
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLostItemArchived(LostItemArchivedEvent event) {
+        counts.decrementAndGet(index(event.category(), event.status()));
+    }
+
+    // 카테고리별 개수 (status가 있으면 그 상태만)
+    public Map<Category, Long> countByCategory(LostStatus status) {
+        AtomicLongArray current = counts;
+        Map<Category, Long> result = new EnumMap<>(Category.class);
+        for (Category category : CATEGORIES) {
+            long total = 0;
+            for (LostStatus s : STATUSES) {
+                if (status == null || status == s) {
+                    total += current.get(index(category, s));
+                }
+            }
+            result.put(category, Math.max(0, total));
+        }
+        return result;
+    }
+
+    // 상태별 개수 (category가 있으면 그 카테고리만)
+    public Map<LostStatus, Long> countByStatus(Category category) {
+        AtomicLongArray current = counts;
+        Map<LostStatus, Long> result = new EnumMap<>(LostStatus.class);
+        for (LostStatus status : STATUSES) {
+            long total = 0;
+            for (Category c : CATEGORIES) {
+                if (category == null || category == c) {
+                    total += current.get(index(c, status));
+                }
+            }
+            result.put(status, Math.max(0, total));
+        }
+        return result;
+    }
+
+    private static int index(Category category, LostStatus status) {
+        return category.ordinal() * STATUSES.length + status.ordinal();
+    }
+}
@@ -0,0 +1,13 @@
+package com.bit.docker.lost.service;
+
+import com.bit.docker.lost.model.Category;
+import com.bit.docker.lost.model.LostStatus;
+
+// 분실 신고 보관 테이블 이동 (같은 트랜잭션에서 변경 피드 기록, 커밋 후 FacetCounter 반영)
+// 삭제가 아니므로 일별 등록 통계/이미지는 그대로 유지
+public record LostItemArchivedEvent(
+        Long id,
+        Category category,
+        LostStatus status
+) {
+}
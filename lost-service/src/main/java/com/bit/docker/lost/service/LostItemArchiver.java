@@ -0,0 +1,72 @@
+package com.bit.docker.lost.service;
+
+import com.bit.docker.lost.config.ArchiveProperties;
+import com.bit.docker.lost.model.LostStatus;
+import com.bit.docker.lost.repository.ArchiveCandidate;
+import com.bit.docker.lost.repository.LostItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 완료된 분실 신고 보관 처리 (lost_items -> lost_items_archive)
+ * - 완료 상태로 retention-days 이상 지난 건을 chunk-size 단위 트랜잭션으로 복사 후 삭제
+ * - 사용자가 수정 중인 행(잠금)은 건너뛰고 다음 실행에 처리 (SKIP LOCKED)
+ * - 본 테이블과 인덱스는 진행 중인 건 위주로 작게 유지, 보관 건은 단건/보관 목록으로만 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LostItemArchiver {
+    // 보관 대상 상태
+    private static final List<String> ARCHIVABLE_STATUSES = List.of("CLOSED");
+
+    private final LostItemRepository lostItemRepository;
+    private final ArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Scheduled(fixedDelayString = "${archive.interval-millis:3600000}",
+               initialDelayString = "${archive.interval-millis:3600000}")
+    public void archive() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.getRetentionDays());
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        long total = 0;
+        int moved;
+        do {
+            Integer result = transactionTemplate.execute(status -> archiveChunk(cutoff, chunkSize));
+            moved = result == null ? 0 : result;
+            total += moved;
+        } while (moved == chunkSize);
+
+        if (total > 0) {
+            log.info("분실 신고 보관 처리: {}건", total);
+        }
+    }
+
+    private int archiveChunk(LocalDateTime cutoff, int chunkSize) {
+        List<ArchiveCandidate> candidates =
+            lostItemRepository.lockArchiveCandidates(ARCHIVABLE_STATUSES, cutoff, chunkSize);
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = candidates.stream().map(ArchiveCandidate::getId).collect(Collectors.toList());
+        lostItemRepository.copyToArchive(ids);
+        lostItemRepository.deleteAllByIdIn(ids);
+        for (ArchiveCandidate candidate : candidates) {
+            eventPublisher.publishEvent(new LostItemArchivedEvent(
+                candidate.getId(), candidate.getCategory(), candidate.getStatus()));
+        }
+        return candidates.size();
+    }
+}
@@ -0,0 +1,18 @@
+package com.bit.docker.lost.service;
+
+import com.bit.docker.lost.model.Category;
+import com.bit.docker.lost.model.LostStatus;
+
+import java.time.LocalDateTime;
+
+// 분실 신고 등록/수정/상태 변경/삭제 (커밋 후 FacetCounter/DailyCounter 반영)
+// 등록이면 old 값이 null, 삭제면 new 값이 null
+public record LostItemChangedEvent(
+        Long id,
+        Category oldCategory,
+        LostStatus oldStatus,
+        Category newCategory,
+        LostStatus newStatus,
+        LocalDateTime createdAt
+) {
+}
@@ -1,25 +1,63 @@
 package com.bit.docker.lost.service;
 
 import com.bit.docker.lost.dto.request.LostItemCreateRequest;
+import com.bit.docker.lost.dto.request.LostItemFilterRequest;
 import com.bit.docker.lost.dto.request.LostItemUpdateRequest;
+import com.bit.docker.lost.dto.response.LostItemFilterResponse;
+import com.bit.docker.lost.dto.response.CursorPage;
 import com.bit.docker.lost.dto.response.LostItemResponse;
+import com.bit.docker.lost.dto.response.LostItemSearchResponse;
+import com.bit.docker.lost.model.Category;
 import com.bit.docker.lost.model.LostItem;
 import com.bit.docker.lost.model.LostStatus;
+import com.bit.docker.lost.repository.LostItemArchiveRepository;
 import com.bit.docker.lost.repository.LostItemRepository;
+import com.bit.docker.lost.repository.LostItemSummary;
+import com.bit.docker.lost.repository.SearchHit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.bit.docker.lost.repository.LostItemSpecifications.*;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class LostItemService {
+    // 일괄 조회 한 번에 받을 수 있는 최대 ID 수
+    private static final int MAX_BATCH_SIZE = 500;
+
+    // ngram 토큰 크기 (2글자 미만 검색어는 인덱스에 걸리지 않음)
+    private static final int MIN_QUERY_LENGTH = 2;
+
+    // 커서 목록 한 번에 받을 수 있는 최대 개수
+    private static final int MAX_FEED_LIMIT = 100;
+
     private final LostItemRepository lostItemRepository;
+    private final LostItemArchiveRepository lostItemArchiveRepository;
+    private final FacetCounter facetCounter;
+    private final DailyCounter dailyCounter;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 분실 신고 등록
     @Transactional
@@ -35,6 +73,8 @@ public class LostItemService {
         item.setStatus(LostStatus.OPEN);
         
         LostItem saved = lostItemRepository.save(item);
+        eventPublisher.publishEvent(new LostItemChangedEvent(
+            saved.getId(), null, null, saved.getCategory(), saved.getStatus(), saved.getCreatedAt()));
         return LostItemResponse.from(saved);
     }
     
@@ -44,6 +84,108 @@ public class LostItemService {
             .map(LostItemResponse::from);
     }
     
+    // 분실 신고 목록 (커서 기반, 최신순) - 전체 개수를 세지 않으므로 몇 번째 페이지든 limit 만큼만 읽음
+    // after: 이전 응답의 nextCursor ("createdAt,id"), 없으면 첫 페이지
+    public CursorPage<LostItemResponse> getLostItemFeed(LostStatus status, String after, int limit) {
+        if (limit < 1 || limit > MAX_FEED_LIMIT) {
+            throw new IllegalArgumentException("limit은 1~" + MAX_FEED_LIMIT + " 사이여야 합니다.");
+        }
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+
+        List<LostItem> items;
+        if (after == null || after.isBlank()) {
+            items = status == null
+                ? lostItemRepository.findFeed(pageRequest)
+                : lostItemRepository.findFeedByStatus(status, pageRequest);
+        } else {
+            int comma = after.lastIndexOf(',');
+            LocalDateTime createdAt;
+            Long id;
+            try {
+                createdAt = LocalDateTime.parse(after.substring(0, comma).trim());
+                id = Long.parseLong(after.substring(comma + 1).trim());
+            } catch (DateTimeParseException | IndexOutOfBoundsException | NumberFormatException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다: " + after);
+            }
+            items = status == null
+                ? lostItemRepository.findFeedAfter(createdAt, id, pageRequest)
+                : lostItemRepository.findFeedByStatusAfter(status, createdAt, id, pageRequest);
+        }
+
+        boolean hasNext = items.size() > limit;
+        List<LostItem> content = hasNext ? items.subList(0, limit) : items;
+        String nextCursor = null;
+        if (hasNext) {
+            LostItem last = content.get(content.size() - 1);
+            nextCursor = last.getCreatedAt() + "," + last.getId();
+        }
+        return new CursorPage<>(
+            content.stream().map(LostItemResponse::from).collect(Collectors.toList()),
+            nextCursor,
+            hasNext
+        );
+    }
+    
+    // 분실 신고 검색 (제목+설명 전문 검색, 관련도 순) + 카테고리/상태/분실일 필터
+    public Slice<LostItemSearchResponse> searchLostItems(String query, Category category, LostStatus status,
+                                                LocalDate from, LocalDate to, Pageable pageable) {
+        if (query == null || query.trim().length() < MIN_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MIN_QUERY_LENGTH + "글자 이상이어야 합니다.");
+        }
+        String trimmed = query.trim();
+
+        // 1. 인덱스에서 id + 점수만 (다음 페이지 확인용 1건 더)
+        List<SearchHit> hits = lostItemRepository.search(
+            trimmed,
+            category != null ? category.name() : null,
+            status != null ? status.name() : null,
+            from != null ? from.atStartOfDay() : null,
+            to != null ? to.plusDays(1).atStartOfDay() : null,
+            pageable.getPageSize() + 1,
+            pageable.getOffset()
+        );
+        boolean hasNext = hits.size() > pageable.getPageSize();
+        if (hasNext) {
+            hits = hits.subList(0, pageable.getPageSize());
+        }
+
+        // 2. 본문은 PK로 한 번에 조회 후 점수 순서대로
+        Map<Long, LostItem> items = lostItemRepository.findAllById(hits.stream().map(SearchHit::getId).toList()).stream()
+            .collect(Collectors.toMap(LostItem::getId, Function.identity()));
+        List<LostItemSearchResponse> content = hits.stream()
+            .filter(hit -> items.containsKey(hit.getId()))
+            .map(hit -> {
+                LostItem item = items.get(hit.getId());
+                return new LostItemSearchResponse(
+                    LostItemResponse.from(item),
+                    hit.getScore(),
+                    SearchHighlighter.highlight(item.getTitle(), trimmed),
+                    SearchHighlighter.snippet(item.getDescription(), trimmed)
+                );
+            })
+            .collect(Collectors.toList());
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+    
+    // 분실 신고 조합 필터 (카테고리/상태/장소/기간) + 패싯 개수
+    // 패싯은 GROUP BY 대신 메모리 집계표에서 (카테고리/상태 조건만 반영)
+    public LostItemFilterResponse filterLostItems(LostItemFilterRequest filter, Pageable pageable) {
+        Specification<LostItem> spec = Specification.where(hasCategory(filter.getCategory()))
+            .and(hasStatus(filter.getStatus()))
+            .and(placeContains(filter.getPlace()))
+            .and(lostAtFrom(filter.getFrom()))
+            .and(lostAtTo(filter.getTo()));
+
+        Page<LostItemResponse> items = lostItemRepository.findAll(spec, pageable)
+            .map(LostItemResponse::from);
+        return new LostItemFilterResponse(
+            items,
+            facetCounter.countByCategory(filter.getStatus()),
+            facetCounter.countByStatus(filter.getCategory())
+        );
+    }
+    
     // 내 분실 신고 목록
     public List<LostItemResponse> getMyLostItems(Long userId) {
         return lostItemRepository.findByUserId(userId).stream()
@@ -51,11 +193,48 @@ public class LostItemService {
             .collect(Collectors.toList());
     }
     
+    // 분실 신고 일괄 조회 (다른 서비스에서 호출) - ID 목록을 쿼리 한 번으로, 없는 ID는 결과에서 빠짐
+    public Map<Long, LostItemSummary> getLostItemSummaries(Collection<Long> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("ID 목록은 필수입니다.");
+        }
+        Set<Long> uniqueIds = ids.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (uniqueIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 분실 신고는 최대 " + MAX_BATCH_SIZE + "건입니다.");
+        }
+        if (uniqueIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, LostItemSummary> result = new LinkedHashMap<>();
+        for (LostItemSummary summary : lostItemRepository.findByIdIn(uniqueIds)) {
+            result.put(summary.getId(), summary);
+        }
+        // 본 테이블에 없는 ID는 보관 테이블에서 보충
+        if (result.size() < uniqueIds.size()) {
+            Set<Long> missing = new LinkedHashSet<>(uniqueIds);
+            missing.removeAll(result.keySet());
+            for (LostItemSummary summary : lostItemArchiveRepository.findByIdIn(missing)) {
+                result.put(summary.getId(), summary);
+            }
+        }
+        return result;
+    }
+    
     // 분실 신고 상세
     public LostItemResponse getLostItem(Long id) {
-        LostItem item = lostItemRepository.findById(id)
+        // 본 테이블에 없으면 보관 테이블에서 조회 (오래된 인계 내역/링크)
+        return lostItemRepository.findById(id)
+            .map(LostItemResponse::from)
+            .or(() -> lostItemArchiveRepository.findById(id).map(LostItemResponse::from))
             .orElseThrow(() -> new IllegalArgumentException("분실 신고를 찾을 수 없습니다."));
-        return LostItemResponse.from(item);
+    }
+
+    // 보관된 분실 신고 목록 (본 목록/피드/검색에는 포함되지 않음)
+    public Page<LostItemResponse> getArchivedLostItems(Pageable pageable) {
+        return lostItemArchiveRepository.findAll(pageable).map(LostItemResponse::from);
     }
     
     // 분실 신고 수정
@@ -69,6 +248,7 @@ public class LostItemService {
             throw new IllegalArgumentException("수정 권한이 없습니다.");
         }
         
+        Category oldCategory = item.getCategory();
         item.setCategory(request.getCategory());
         item.setTitle(request.getTitle());
         item.setDescription(request.getDescription());
@@ -76,6 +256,9 @@ public class LostItemService {
         item.setLostPlace(request.getLostPlace());
         item.setReward(request.getReward());
         
+        eventPublisher.publishEvent(new LostItemChangedEvent(
+            item.getId(), oldCategory, item.getStatus(), item.getCategory(), item.getStatus(), item.getCreatedAt()));
+        
         return LostItemResponse.from(item);
     }
     
@@ -91,6 +274,8 @@ public class LostItemService {
         }
         
         lostItemRepository.delete(item);
+        eventPublisher.publishEvent(new LostItemChangedEvent(
+            item.getId(), item.getCategory(), item.getStatus(), null, null, item.getCreatedAt()));
     }
     
     // 상태 변경
@@ -98,17 +283,38 @@ public class LostItemService {
     public void updateStatus(Long id, LostStatus status) {
         LostItem item = lostItemRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("분실 신고를 찾을 수 없습니다."));
+        LostStatus oldStatus = item.getStatus();
         item.setStatus(status);
+        eventPublisher.publishEvent(new LostItemChangedEvent(
+            item.getId(), item.getCategory(), oldStatus, item.getCategory(), status, item.getCreatedAt()));
+    }
+    
+    // 조건부 상태 변경 (CAS) - 현재 상태가 expected 중 하나일 때만 변경, 아니면 StatusConflictException
+    // 잠금 조회 없이 expected마다 조건부 UPDATE 한 번씩 - 처음 1행이 바뀐 값이 이전 상태
+    // 모두 0행일 때만 현재 상태를 읽어 409에 담음
+    @Transactional
+    public void compareAndSetStatus(Long id, Collection<LostStatus> expected, LostStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        for (LostStatus from : expected) {
+            if (lostItemRepository.compareAndSetStatus(id, from, status, now) == 1) {
+                // 이벤트용 카테고리/등록일 (변경 후 다시 읽음)
+                LostItem item = lostItemRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("분실 신고를 찾을 수 없습니다."));
+                eventPublisher.publishEvent(new LostItemChangedEvent(
+                    id, item.getCategory(), from, item.getCategory(), status, item.getCreatedAt()));
+                return;
+            }
+        }
+
+        // UPDATE가 먼저 실행됐으므로 이 조회의 스냅샷은 UPDATE 이후 시점
+        LostStatus current = lostItemRepository.findStatusById(id)
+            .orElseThrow(() -> new IllegalArgumentException("분실 신고를 찾을 수 없습니다."));
+        throw new StatusConflictException(current);
     }
     
     // 기간별 통계 (Admin에서 호출)
     public long countByDateRange(java.time.LocalDate startDate, java.time.LocalDate endDate) {
-        if (startDate == null || endDate == null) {
-            return lostItemRepository.count();
-        }
-        // LocalDate를 LocalDateTime으로 변환 (하루의 시작과 끝)
-        java.time.LocalDateTime startDateTime = startDate.atStartOfDay();
-        java.time.LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
-        return lostItemRepository.countByCreatedAtBetween(startDateTime, endDateTime);
+        // 일별 집계표 구간 합산 (날짜가 없으면 전체)
+        return dailyCounter.count(startDate, endDate);
     }
 }
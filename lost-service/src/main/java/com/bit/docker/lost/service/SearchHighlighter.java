@@ -0,0 +1,114 @@
+package com.bit.docker.lost.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 결과 하이라이트
+ * - 검색어를 공백 기준으로 나눠 일치하는 부분을 <em>...</em>으로 감쌈
+ * - 단어 전체가 없으면 ngram 인덱스와 같은 2글자 조각 단위로 표시 ("지갑을" -> "지갑", "갑을")
+ * - 원문은 HTML 이스케이프 후 태그를 붙이므로 그대로 렌더링해도 안전
+ * - found-service와 같은 구현 (공유 모듈 없음 - 수정 시 함께 변경)
+ */
+final class SearchHighlighter {
+    private static final int NGRAM_SIZE = 2;
+    private static final int SNIPPET_LENGTH = 120;
+
+    private SearchHighlighter() {
+    }
+
+    static String highlight(String text, String query) {
+        if (text == null) {
+            return null;
+        }
+        return apply(text, 0, text.length(), terms(text, query));
+    }
+
+    // 첫 일치 위치 주변만 잘라서 하이라이트 (긴 설명용)
+    static String snippet(String text, String query) {
+        if (text == null) {
+            return null;
+        }
+        List<String> terms = terms(text, query);
+        String lower = text.toLowerCase(Locale.ROOT);
+        int first = terms.stream()
+            .mapToInt(lower::indexOf)
+            .filter(index -> index >= 0)
+            .min()
+            .orElse(0);
+
+        int start = Math.max(0, first - SNIPPET_LENGTH / 4);
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        String body = apply(text, start, end, terms);
+        return (start > 0 ? "..." : "") + body + (end < text.length() ? "..." : "");
+    }
+
+    // 본문에 실제로 있는 검색어(없으면 2글자 조각) 목록, 긴 것부터
+    private static List<String> terms(String text, String query) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : query.toLowerCase(Locale.ROOT).trim().split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (lower.contains(word)) {
+                terms.add(word);
+                continue;
+            }
+            for (int i = 0; i + NGRAM_SIZE <= word.length(); i++) {
+                String gram = word.substring(i, i + NGRAM_SIZE);
+                if (lower.contains(gram)) {
+                    terms.add(gram);
+                }
+            }
+        }
+        List<String> sorted = new ArrayList<>(terms);
+        sorted.sort((a, b) -> b.length() - a.length());
+        return sorted;
+    }
+
+    private static String apply(String text, int start, int end, List<String> terms) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        // 각 글자가 하이라이트 구간에 속하는지 표시 (겹치는 조각은 하나로 합쳐짐)
+        boolean[] marked = new boolean[end - start];
+        for (String term : terms) {
+            int index = lower.indexOf(term, start);
+            while (index >= 0 && index < end) {
+                Arrays.fill(marked, index - start, Math.min(end, index + term.length()) - start, true);
+                index = lower.indexOf(term, index + 1);
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        boolean open = false;
+        for (int i = start; i < end; i++) {
+            boolean mark = marked[i - start];
+            if (mark && !open) {
+                sb.append("<em>");
+            } else if (!mark && open) {
+                sb.append("</em>");
+            }
+            open = mark;
+            appendEscaped(sb, text.charAt(i));
+        }
+        if (open) {
+            sb.append("</em>");
+        }
+        return sb.toString();
+    }
+
+    private static void appendEscaped(StringBuilder sb, char c) {
+        switch (c) {
+            case '<' -> sb.append("&lt;");
+            case '>' -> sb.append("&gt;");
+            case '&' -> sb.append("&amp;");
+            case '"' -> sb.append("&quot;");
+            case '\'' -> sb.append("&#39;");
+            default -> sb.append(c);
+        }
+    }
+}
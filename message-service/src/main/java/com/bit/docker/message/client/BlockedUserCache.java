@@ -0,0 +1,110 @@
+package com.bit.docker.message.client;
+
+import com.bit.docker.message.dto.BlockedUsersDTO;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * User 서비스의 차단 사용자 목록 로컬 캐시
+ * - 기동 시 / 주기적으로 GET /api/users/blocked?epoch=&version= 로 전체 동기화 (변경 없으면 304)
+ * - 정지/해제 시 User 서비스가 POST /internal/user-status 로 변경 내용을 밀어줌
+ * - 버전이 건너뛰면(알림 유실) 또는 epoch가 바뀌면(User 서비스 재기동, 버전 재시작) 즉시 전체 동기화
+ * - 조회는 BitSet 한 번 읽기 (네트워크 호출 없음)
+ */
+@Component
+public class BlockedUserCache {
+    private final WebClient userServiceWebClient;
+
+    // 동기화 전에는 null (-> UserServiceClient가 기존처럼 직접 호출)
+    private volatile Snapshot snapshot;
+
+    public BlockedUserCache(WebClient userServiceWebClient) {
+        this.userServiceWebClient = userServiceWebClient;
+    }
+
+    // 캐시가 준비되지 않았으면 null
+    public Boolean isBlocked(Long userId) {
+        Snapshot current = snapshot;
+        if (current == null || userId == null) {
+            return null;
+        }
+        return current.blocked().get(Math.toIntExact(userId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialSync() {
+        sync();
+    }
+
+    @Scheduled(fixedDelayString = "${user-status.sync-interval-millis:60000}",
+               initialDelayString = "${user-status.sync-interval-millis:60000}")
+    public void sync() {
+        try {
+            Snapshot current = snapshot;
+            ResponseEntity<BlockedUsersDTO> response = userServiceWebClient
+                .get()
+                .uri(uriBuilder -> uriBuilder.path("/blocked")
+                    .queryParamIfPresent("epoch", Optional.ofNullable(current).map(Snapshot::epoch))
+                    .queryParamIfPresent("version", Optional.ofNullable(current).map(Snapshot::version))
+                    .build())
+                .retrieve()
+                .toEntity(BlockedUsersDTO.class)
+                .block();
+            if (response == null || response.getStatusCode() == HttpStatus.NOT_MODIFIED || response.getBody() == null) {
+                return;
+            }
+
+            BitSet blocked = new BitSet();
+            long[] ids = response.getBody().getIds();
+            if (ids != null) {
+                for (long id : ids) {
+                    blocked.set(Math.toIntExact(id));
+                }
+            }
+            replace(new Snapshot(response.getBody().getEpoch(), response.getBody().getVersion(), blocked));
+        } catch (Exception e) {
+            // 동기화 실패 시 기존 캐시 유지 (다음 주기에 재시도)
+            System.err.println("차단 사용자 목록 동기화 실패: " + e.getMessage());
+        }
+    }
+
+    // User 서비스에서 밀어준 정지/해제 반영
+    public void apply(Long userId, boolean blocked, String epoch, long version) {
+        boolean gap;
+        synchronized (this) {
+            Snapshot current = snapshot;
+            if (current != null && !Objects.equals(epoch, current.epoch())) {
+                // 재기동한 User 서비스의 버전 - 기존 버전과 비교할 수 없으므로 전체 동기화
+                gap = true;
+            } else if (current == null || version <= current.version()) {
+                // 아직 초기화 전이거나 이미 반영된 변경
+                gap = current == null;
+            } else {
+                BitSet next = (BitSet) current.blocked().clone();
+                next.set(Math.toIntExact(userId), blocked);
+                gap = version != current.version() + 1;
+                // 중간 변경이 빠졌으면 버전을 올리지 않아 다음 동기화에서 전체를 받도록 함
+                snapshot = new Snapshot(current.epoch(), gap ? current.version() : version, next);
+            }
+        }
+        if (gap) {
+            sync();
+        }
+    }
+
+    private synchronized void replace(Snapshot next) {
+        snapshot = next;
+    }
+
+    private record Snapshot(String epoch, long version, BitSet blocked) {
+    }
+}
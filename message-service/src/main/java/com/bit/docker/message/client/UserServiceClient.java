@@ -8,8 +8,15 @@ import org.springframework.web.reactive.function.client.WebClient;
 @RequiredArgsConstructor
 public class UserServiceClient {
     private final WebClient userServiceWebClient;
+    private final BlockedUserCache blockedUserCache;
     
     public boolean isUserBlocked(Long userId) {
+        // 로컬 차단 목록이 준비되었으면 네트워크 호출 없이 확인
+        Boolean cached = blockedUserCache.isBlocked(userId);
+        if (cached != null) {
+            return cached;
+        }
+        
         try {
             Boolean blocked = userServiceWebClient
                 .get()
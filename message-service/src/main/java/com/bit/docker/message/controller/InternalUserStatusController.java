@@ -0,0 +1,25 @@
+package com.bit.docker.message.controller;
+
+import com.bit.docker.message.client.BlockedUserCache;
+import com.bit.docker.message.dto.request.UserStatusChangedRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 서비스 간 내부 호출 전용 (GW 라우트 없음)
+@RestController
+@RequestMapping("/internal/user-status")
+@RequiredArgsConstructor
+public class InternalUserStatusController {
+    private final BlockedUserCache blockedUserCache;
+
+    // User 서비스의 정지/해제 알림 -> 로컬 차단 목록 갱신
+    @PostMapping
+    public ResponseEntity<Void> userStatusChanged(@RequestBody UserStatusChangedRequest request) {
+        blockedUserCache.apply(request.getUserId(), request.isBlocked(), request.getEpoch(), request.getVersion());
+        return ResponseEntity.noContent().build();
+    }
+}
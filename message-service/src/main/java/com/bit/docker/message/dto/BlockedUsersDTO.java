@@ -0,0 +1,15 @@
+package com.bit.docker.message.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// User 서비스 GET /api/users/blocked 응답
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlockedUsersDTO {
+    private String epoch;
+    private long version;
+    private long[] ids;
+}
@@ -0,0 +1,99 @@
+package com.bit.docker.readmodel.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자 읽기 모델 (near cache)
+ * - id -> UserView, username -> id 두 개의 Caffeine 캐시 (TTL + 최대 크기)
+ * - 미스 시 UserViewLoader로 DB 조회 후 적재, 없는 사용자는 캐시하지 않음
+ * - 같은 서비스 안에서의 변경은 invalidate()로 즉시 반영, 다른 서비스의 변경은 TTL 이내 반영
+ */
+public class UserReadModel {
+    private final UserViewLoader loader;
+    private final Cache<Long, UserView> byId;
+    private final Cache<String, Long> idByUsername;
+
+    public UserReadModel(UserViewLoader loader, UserReadModelProperties properties) {
+        this.loader = loader;
+        this.byId = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaxSize())
+                .recordStats()
+                .build();
+        this.idByUsername = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaxSize())
+                .build();
+    }
+
+    public Optional<UserView> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        UserView cached = byId.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<UserView> loaded = loader.loadById(id);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    public Optional<UserView> findByUsername(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        Long id = idByUsername.getIfPresent(username);
+        if (id != null) {
+            UserView cached = byId.getIfPresent(id);
+            // username이 바뀌었을 수 있으므로 일치할 때만 사용
+            if (cached != null && username.equals(cached.username())) {
+                return Optional.of(cached);
+            }
+        }
+        Optional<UserView> loaded = loader.loadByUsername(username);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    // 여러 사용자 조회 - 캐시에 없는 것만 한 번에 로드, 없는 id는 결과에서 빠짐
+    public Map<Long, UserView> findAllById(Collection<Long> ids) {
+        Set<Long> keys = new LinkedHashSet<>(ids);
+        keys.remove(null);
+        return byId.getAll(keys, missing -> {
+            Map<Long, UserView> loaded = loader.loadAllById(Set.copyOf(missing));
+            loaded.values().forEach(view -> idByUsername.put(view.username(), view.id()));
+            return loaded;
+        });
+    }
+
+    // 이 서비스에서 사용자를 변경했을 때 (커밋 후 호출)
+    public void invalidate(Long id) {
+        UserView removed = byId.asMap().remove(id);
+        if (removed != null) {
+            idByUsername.invalidate(removed.username());
+        }
+    }
+
+    public void invalidateAll() {
+        byId.invalidateAll();
+        idByUsername.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return byId.stats();
+    }
+
+    private void put(UserView view) {
+        byId.put(view.id(), view);
+        idByUsername.put(view.username(), view.id());
+    }
+}
@@ -0,0 +1,20 @@
+package com.bit.docker.readmodel.user;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+// 서비스에 UserViewLoader 빈이 있으면 UserReadModel 등록
+@AutoConfiguration
+@EnableConfigurationProperties(UserReadModelProperties.class)
+public class UserReadModelAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBean(UserViewLoader.class)
+    @ConditionalOnMissingBean
+    public UserReadModel userReadModel(UserViewLoader loader, UserReadModelProperties properties) {
+        return new UserReadModel(loader, properties);
+    }
+}
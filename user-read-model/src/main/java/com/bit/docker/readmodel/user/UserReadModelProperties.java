@@ -0,0 +1,32 @@
+package com.bit.docker.readmodel.user;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// 사용자 읽기 모델 near cache 설정 (user-read-model.*)
+@ConfigurationProperties(prefix = "user-read-model")
+public class UserReadModelProperties {
+
+    // 캐시 항목 유지 시간 - 다른 서비스에서 바뀐 값은 최대 이 시간 후 반영
+    private Duration ttl = Duration.ofSeconds(30);
+
+    // 최대 캐시 항목 수 (id 기준 / username 기준 각각)
+    private long maxSize = 10_000;
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+}
@@ -0,0 +1,31 @@
+package com.bit.docker.readmodel.user;
+
+import java.time.LocalDateTime;
+
+/**
+ * users 테이블 읽기 전용 뷰 (auth-service / user-service 공용)
+ * - role/status는 서비스별 enum 대신 이름(String)으로 보관 -> 각 서비스에서 valueOf
+ * - password는 로그인 검증용 해시 (응답 DTO로 옮기지 말 것, toString에서도 제외)
+ */
+public record UserView(
+        Long id,
+        String username,
+        String password,
+        String nickname,
+        String role,
+        String status,
+        String affiliation,
+        String phone,
+        String email,
+        LocalDateTime createdAt
+) {
+    public boolean isBlocked() {
+        return "BLOCKED".equals(status);
+    }
+
+    @Override
+    public String toString() {
+        return "UserView[id=" + id + ", username=" + username + ", nickname=" + nickname
+                + ", role=" + role + ", status=" + status + "]";
+    }
+}
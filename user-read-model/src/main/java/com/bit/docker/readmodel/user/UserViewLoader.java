@@ -0,0 +1,25 @@
+package com.bit.docker.readmodel.user;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 캐시 미스 시 DB에서 읽어오는 포트 (각 서비스가 자기 JPA 엔티티/Repository로 구현)
+ */
+public interface UserViewLoader {
+
+    Optional<UserView> loadById(Long id);
+
+    Optional<UserView> loadByUsername(String username);
+
+    // 여러 건을 쿼리 한 번으로 읽을 수 있으면 재정의 (기본은 건별 조회)
+    default Map<Long, UserView> loadAllById(Collection<Long> ids) {
+        Map<Long, UserView> result = new HashMap<>();
+        for (Long id : ids) {
+            loadById(id).ifPresent(view -> result.put(id, view));
+        }
+        return result;
+    }
+}
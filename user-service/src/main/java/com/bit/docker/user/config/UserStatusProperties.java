@@ -0,0 +1,20 @@
+package com.bit.docker.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 차단 사용자 목록 캐시/전파 설정 (user-status.*)
+@Component
+@ConfigurationProperties(prefix = "user-status")
+@Getter
+@Setter
+public class UserStatusProperties {
+
+    // 정지/해제 시 변경 내용을 받을 서비스 URL (POST {userId, blocked, epoch, version})
+    private List<String> subscribers = new ArrayList<>();
+}
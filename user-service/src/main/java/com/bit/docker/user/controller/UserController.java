@@ -1,13 +1,23 @@
 package com.bit.docker.user.controller;
 
+import com.bit.docker.user.dto.request.UserBatchRequest;
+import com.bit.docker.user.dto.response.BlockedUsersResponse;
 import com.bit.docker.user.dto.response.UserResponse;
+import com.bit.docker.user.dto.response.UserSearchPageResponse;
+import com.bit.docker.user.dto.response.UserSummaryResponse;
+import com.bit.docker.user.repository.UserNicknameView;
+import com.bit.docker.user.service.NicknameSearchIndex;
 import com.bit.docker.user.service.UserService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -21,6 +31,15 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
     
+    // 사용자 일괄 조회 (다른 서비스에서 호출) - { id: {nickname, status, role} }
+    @PostMapping("/batch")
+    public ResponseEntity<Map<Long, UserSummaryResponse>> getUserSummaries(
+        @Valid @RequestBody UserBatchRequest request
+    ) {
+        Map<Long, UserSummaryResponse> response = userService.getUserSummaries(request.getIds());
+        return ResponseEntity.ok(response);
+    }
+    
     // 사용자 목록 (관리자용)
     @GetMapping
     public ResponseEntity<Page<UserResponse>> getUsers(Pageable pageable) {
@@ -49,13 +68,39 @@ public class UserController {
         return ResponseEntity.ok(blocked);
     }
 
+    // 닉네임 검색 (관리자용) - mode: PREFIX(접두어) / FUZZY(오타 허용), cursor: 이전 응답의 nextCursor
+    @GetMapping("/search")
+    public ResponseEntity<UserSearchPageResponse> searchUsers(
+        @RequestParam String q,
+        @RequestParam(defaultValue = "PREFIX") NicknameSearchIndex.Mode mode,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        UserSearchPageResponse response = userService.searchUsers(q, mode, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+    
+    // 차단 사용자 전체 목록 (다른 서비스의 캐시 동기화용)
+    // epoch/version이 현재와 같으면 304 (변경 없음) - 재기동으로 epoch가 바뀌었으면 항상 전체 목록
+    @GetMapping("/blocked")
+    public ResponseEntity<BlockedUsersResponse> getBlockedUsers(
+        @RequestParam(required = false) String epoch,
+        @RequestParam(required = false) Long version
+    ) {
+        BlockedUsersResponse response = userService.getBlockedUsers();
+        if (version != null && version == response.getVersion() && response.getEpoch().equals(epoch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(response);
+    }
+
     // 역할별 사용자 조회 (다른 서비스에서 호출)
     @GetMapping("/by-role/{role}")
-    public ResponseEntity<Page<UserResponse>> getUsersByRole(
+    public ResponseEntity<Page<UserNicknameView>> getUsersByRole(
         @PathVariable String role,
         Pageable pageable
     ) {
-        Page<UserResponse> response = userService.getUsersByRole(role, pageable);
+        Page<UserNicknameView> response = userService.getUsersByRole(role, pageable);
         return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,16 @@
+package com.bit.docker.user.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchRequest {
+    @NotNull(message = "사용자 ID 목록은 필수입니다")
+    private List<Long> ids;
+}
@@ -0,0 +1,15 @@
+package com.bit.docker.user.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 차단 사용자 전체 목록 (다른 서비스의 캐시 동기화용)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlockedUsersResponse {
+    private String epoch;  // user-service 기동 단위 (다르면 version 비교 불가)
+    private long version;
+    private long[] ids;
+}
@@ -4,6 +4,7 @@ import com.bit.docker.user.model.Affiliation;
 import com.bit.docker.user.model.User;
 import com.bit.docker.user.model.UserRole;
 import com.bit.docker.user.model.UserStatus;
+import com.bit.docker.readmodel.user.UserView;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -38,4 +39,19 @@ public class UserResponse {
             user.getCreatedAt()
         );
     }
+
+    // 읽기 모델 -> DTO 변환
+    public static UserResponse from(UserView user) {
+        return new UserResponse(
+            user.id(),
+            user.username(),
+            user.nickname(),
+            user.role() != null ? UserRole.valueOf(user.role()) : null,
+            user.status() != null ? UserStatus.valueOf(user.status()) : null,
+            user.affiliation() != null ? Affiliation.valueOf(user.affiliation()) : null,
+            user.phone(),
+            user.email(),
+            user.createdAt()
+        );
+    }
 }
@@ -0,0 +1,16 @@
+package com.bit.docker.user.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 닉네임 검색 페이지 (nextCursor가 null이면 마지막 페이지)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchPageResponse {
+    private List<UserSearchResponse> content;
+    private String nextCursor;
+}
@@ -0,0 +1,19 @@
+package com.bit.docker.user.dto.response;
+
+import com.bit.docker.user.model.UserRole;
+import com.bit.docker.user.model.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 닉네임 검색 결과 (score: 0~1000, 높을수록 일치)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchResponse {
+    private Long id;
+    private String nickname;
+    private UserRole role;
+    private UserStatus status;
+    private int score;
+}
@@ -0,0 +1,37 @@
+package com.bit.docker.user.dto.response;
+
+import com.bit.docker.user.model.User;
+import com.bit.docker.user.model.UserRole;
+import com.bit.docker.user.model.UserStatus;
+import com.bit.docker.readmodel.user.UserView;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 다른 서비스에서 화면 표시/상태 확인용으로 쓰는 최소 정보
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryResponse {
+    private String nickname;
+    private UserStatus status;
+    private UserRole role;
+
+    // Entity -> DTO 변환
+    public static UserSummaryResponse from(User user) {
+        return new UserSummaryResponse(
+            user.getNickname(),
+            user.getStatus(),
+            user.getRole()
+        );
+    }
+
+    // 읽기 모델 -> DTO 변환
+    public static UserSummaryResponse from(UserView user) {
+        return new UserSummaryResponse(
+            user.nickname(),
+            user.status() != null ? UserStatus.valueOf(user.status()) : null,
+            user.role() != null ? UserRole.valueOf(user.role()) : null
+        );
+    }
+}
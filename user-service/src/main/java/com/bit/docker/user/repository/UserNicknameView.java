@@ -0,0 +1,8 @@
+package com.bit.docker.user.repository;
+
+// 역할별 사용자 목록 등에서 쓰는 경량 projection (id, nickname 컬럼만 조회)
+public interface UserNicknameView {
+    Long getId();
+
+    String getNickname();
+}
@@ -6,7 +6,10 @@ import com.bit.docker.user.model.UserStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,10 +18,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     boolean existsByUsername(String username);
     
-    List<User> findByRole(UserRole role);
+    // 역할별 조회 - DB에서 페이지 단위로, id/nickname만 조회
+    Page<UserNicknameView> findByRole(UserRole role, Pageable pageable);
     
     List<User> findByStatus(UserStatus status);
     
-    // 관리자가 사용자 검색할 때
-    Page<User> findByNicknameContaining(String nickname, Pageable pageable);
+    // 차단 목록 적재용 - ID만 조회
+    @Query("SELECT u.id FROM User u WHERE u.status = :status")
+    List<Long> findIdsByStatus(@Param("status") UserStatus status);
+    
+    // 닉네임 검색 인덱스 변경분 동기화
+    List<User> findByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+    
+    // 닉네임 검색 인덱스에서 삭제된 사용자 제거용 - ID만 조회
+    @Query("SELECT u.id FROM User u")
+    List<Long> findAllIds();
 }
@@ -0,0 +1,88 @@
+package com.bit.docker.user.service;
+
+import com.bit.docker.user.model.UserStatus;
+import com.bit.docker.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.BitSet;
+import java.util.UUID;
+
+/**
+ * 차단(BLOCKED) 사용자 ID 집합 (메모리)
+ * - 사용자 ID -> 비트 한 개 (BitSet), 조회는 락 없이 현재 스냅샷을 읽음
+ * - 변경 시 새 BitSet을 만들어 교체 (copy-on-write) + 버전 증가
+ * - 버전은 메모리 카운터라 재기동 시 0부터 다시 시작 -> 기동마다 새 epoch를 함께 내려 구독 측이 전체 동기화하도록 함
+ * - 정지/해제는 커밋 후(UserStatusChangedEvent) 반영하고 구독 서비스에 전파
+ * - 다른 인스턴스에서 변경된 내용을 위해 주기적으로 DB와 다시 맞춤
+ */
+@Component
+@RequiredArgsConstructor
+public class BlockedUserRegistry {
+    private final UserRepository userRepository;
+    private final UserStatusPublisher userStatusPublisher;
+
+    // 이 인스턴스의 버전 기준 (epoch가 다르면 버전끼리 비교할 수 없음)
+    private final String epoch = UUID.randomUUID().toString();
+
+    private volatile Snapshot snapshot = new Snapshot(0, new BitSet());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    // DB 기준으로 다시 적재 (내용이 바뀐 경우에만 버전 증가)
+    @Scheduled(fixedDelayString = "${user-status.reload-interval-millis:60000}",
+               initialDelayString = "${user-status.reload-interval-millis:60000}")
+    public synchronized void reload() {
+        BitSet blocked = new BitSet();
+        for (Long id : userRepository.findIdsByStatus(UserStatus.BLOCKED)) {
+            blocked.set(Math.toIntExact(id));
+        }
+        if (!blocked.equals(snapshot.blocked())) {
+            snapshot = new Snapshot(snapshot.version() + 1, blocked);
+        }
+    }
+
+    public boolean isBlocked(Long userId) {
+        return userId != null && snapshot.blocked().get(Math.toIntExact(userId));
+    }
+
+    // 정지/해제 커밋 후 반영 + 구독 서비스에 전파
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        long version = update(event.userId(), event.blocked());
+        userStatusPublisher.publish(event.userId(), event.blocked(), epoch, version);
+    }
+
+    // 정지/해제 반영 후 새 버전 반환
+    public synchronized long update(Long userId, boolean blocked) {
+        Snapshot current = snapshot;
+        int index = Math.toIntExact(userId);
+        if (current.blocked().get(index) == blocked) {
+            return current.version();
+        }
+        BitSet next = (BitSet) current.blocked().clone();
+        next.set(index, blocked);
+        snapshot = new Snapshot(current.version() + 1, next);
+        return snapshot.version();
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public String epoch() {
+        return epoch;
+    }
+
+    // 읽기 전용으로만 사용 (교체는 update/reload에서 새 BitSet으로)
+    public record Snapshot(long version, BitSet blocked) {
+    }
+}
@@ -0,0 +1,280 @@
+package com.bit.docker.user.service;
+
+import com.bit.docker.user.dto.response.UserSearchPageResponse;
+import com.bit.docker.user.dto.response.UserSearchResponse;
+import com.bit.docker.user.model.User;
+import com.bit.docker.user.model.UserRole;
+import com.bit.docker.user.model.UserStatus;
+import com.bit.docker.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 닉네임 n-gram 검색 인덱스 (메모리)
+ * - LIKE '%x%' 전체 스캔 대신 2-gram 역색인으로 후보만 조회
+ * - 첫 글자는 "^x" 토큰으로도 색인 (한 글자 검색 / 접두어 가중치)
+ * - 기동 시 전체 적재, 이후 updatedAt 기준 변경분만 주기적으로 반영 (auth-service 가입도 포함)
+ * - updatedAt은 앱 시각이라 늦게 커밋된 행이 이미 지난 시각일 수 있음 -> 기준 시각을 sync-overlap만큼 당겨 다시 읽음
+ * - PREFIX: 접두어 일치 (짧은 닉네임일수록 상위)
+ * - FUZZY: 2-gram 겹침(Dice 계수)으로 오타 허용
+ * - 정렬: 점수 내림차순, id 오름차순 / 커서 = "점수:id"
+ * - 전체 정렬 대신 커서 이후 상위 size + 1개만 크기 제한 힙으로 선별
+ * - DB에서 삭제된 사용자는 주기적인 id 대조로 제거
+ * - 인스턴스별 메모리 인덱스 - 인스턴스 간 무효화는 없고 각자 sync 주기만큼 늦게 반영됨
+ */
+@Component
+@RequiredArgsConstructor
+public class NicknameSearchIndex {
+    public enum Mode { PREFIX, FUZZY }
+
+    // FUZZY 결과로 인정하는 최소 점수 (0~1000)
+    private static final int MIN_FUZZY_SCORE = 300;
+    private static final int MAX_PAGE_SIZE = 100;
+    // 점수 내림차순, 같은 점수는 id 오름차순
+    private static final Comparator<UserSearchResponse> ORDER =
+        Comparator.comparingInt(UserSearchResponse::getScore).reversed()
+            .thenComparingLong(UserSearchResponse::getId);
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastSyncedAt;
+
+    // 기준 시각보다 이만큼 앞에서부터 다시 조회 (트랜잭션 커밋 지연 대비, 다시 읽어도 upsert는 멱등)
+    @Value("${user-search.sync-overlap-millis:10000}")
+    private long syncOverlapMillis;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        sync();
+    }
+
+    // 마지막 동기화 이후 변경된 사용자만 반영 (겹치는 구간 포함 >= 로 조회, 반영은 멱등)
+    @Scheduled(fixedDelayString = "${user-search.sync-interval-millis:30000}",
+               initialDelayString = "${user-search.sync-interval-millis:30000}")
+    public synchronized void sync() {
+        List<User> changed = lastSyncedAt == null
+            ? userRepository.findAll()
+            : userRepository.findByUpdatedAtGreaterThanEqual(lastSyncedAt.minus(Duration.ofMillis(syncOverlapMillis)));
+        LocalDateTime latest = lastSyncedAt;
+        for (User user : changed) {
+            upsert(user);
+            if (user.getUpdatedAt() != null && (latest == null || user.getUpdatedAt().isAfter(latest))) {
+                latest = user.getUpdatedAt();
+            }
+        }
+        lastSyncedAt = latest != null ? latest : LocalDateTime.now();
+    }
+
+    // DB에서 삭제된 사용자 제거 (updatedAt 변경분으로는 삭제를 알 수 없음)
+    @Scheduled(fixedDelayString = "${user-search.reconcile-interval-millis:600000}",
+               initialDelayString = "${user-search.reconcile-interval-millis:600000}")
+    public synchronized void reconcile() {
+        Set<Long> existing = new HashSet<>(userRepository.findAllIds());
+        for (Long id : List.copyOf(documents.keySet())) {
+            if (!existing.contains(id)) {
+                remove(id);
+            }
+        }
+    }
+
+    public UserSearchPageResponse search(String query, Mode mode, String cursor, int size) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Set<String> queryGrams = grams(normalized);
+
+        // 커서 이후부터 limit + 1개 (다음 페이지 존재 여부 확인용)
+        TopHits top = new TopHits(limit + 1, parseCursor(cursor));
+        if (mode == Mode.FUZZY) {
+            fuzzy(queryGrams, top);
+        } else {
+            prefix(normalized, queryGrams, top);
+        }
+        List<UserSearchResponse> content = top.sorted();
+        boolean hasNext = content.size() > limit;
+        if (hasNext) {
+            content = content.subList(0, limit);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            UserSearchResponse last = content.get(content.size() - 1);
+            nextCursor = last.getScore() + ":" + last.getId();
+        }
+        return new UserSearchPageResponse(content, nextCursor);
+    }
+
+    // 검색어 토큰이 모두 들어 있는 닉네임 중 접두어가 일치하는 것
+    private void prefix(String normalized, Set<String> queryGrams, TopHits top) {
+        Set<Long> candidates = null;
+        for (String gram : queryGrams) {
+            Set<Long> ids = postings.getOrDefault(gram, Set.of());
+            if (candidates == null) {
+                candidates = new LinkedHashSet<>(ids);
+            } else {
+                candidates.retainAll(ids);
+            }
+            if (candidates.isEmpty()) {
+                return;
+            }
+        }
+
+        for (Long id : candidates) {
+            Document document = documents.get(id);
+            if (document != null && document.normalized().startsWith(normalized)) {
+                // 완전 일치 1000, 그 외엔 닉네임 중 검색어가 차지하는 비율
+                int score = normalized.length() * 1000 / document.normalized().length();
+                top.offer(document.toResponse(score));
+            }
+        }
+    }
+
+    // 검색어 토큰과 겹치는 토큰 수로 Dice 계수 계산
+    private void fuzzy(Set<String> queryGrams, TopHits top) {
+        Map<Long, Integer> shared = new HashMap<>();
+        for (String gram : queryGrams) {
+            for (Long id : postings.getOrDefault(gram, Set.of())) {
+                shared.merge(id, 1, Integer::sum);
+            }
+        }
+
+        shared.forEach((id, count) -> {
+            Document document = documents.get(id);
+            if (document == null) {
+                return;
+            }
+            int score = 2000 * count / (queryGrams.size() + document.grams().size());
+            if (score >= MIN_FUZZY_SCORE) {
+                top.offer(document.toResponse(score));
+            }
+        });
+    }
+
+    private void upsert(User user) {
+        Document previous = documents.get(user.getId());
+        String normalized = normalize(user.getNickname());
+        Set<String> grams = grams(normalized);
+
+        if (previous != null && !previous.normalized().equals(normalized)) {
+            unpost(user.getId(), previous.grams());
+        }
+        documents.put(user.getId(), new Document(
+            user.getId(), user.getNickname(), normalized, grams, user.getRole(), user.getStatus()));
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(user.getId());
+        }
+    }
+
+    private void remove(Long id) {
+        Document previous = documents.remove(id);
+        if (previous != null) {
+            unpost(id, previous.grams());
+        }
+    }
+
+    private void unpost(Long id, Collection<String> grams) {
+        for (String gram : grams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+            }
+        }
+    }
+
+    private static boolean isAfter(UserSearchResponse hit, int[] cursor) {
+        return hit.getScore() < cursor[0] || (hit.getScore() == cursor[0] && hit.getId() > cursor[1]);
+    }
+
+    private int[] parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = cursor.split(":");
+        try {
+            return new int[]{Integer.parseInt(parts[0]), Integer.parseInt(parts[1])};
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+
+    // 대소문자/공백 무시
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+
+    static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return grams;
+        }
+        grams.add("^" + normalized.charAt(0));
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    // 커서 이후 결과 중 상위 capacity개만 유지 (힙 맨 앞 = 현재 가장 낮은 순위)
+    private static final class TopHits {
+        private final int capacity;
+        private final int[] after;
+        private final PriorityQueue<UserSearchResponse> heap;
+
+        TopHits(int capacity, int[] after) {
+            this.capacity = capacity;
+            this.after = after;
+            this.heap = new PriorityQueue<>(capacity, ORDER.reversed());
+        }
+
+        void offer(UserSearchResponse hit) {
+            if (after != null && !isAfter(hit, after)) {
+                return;
+            }
+            if (heap.size() < capacity) {
+                heap.add(hit);
+            } else if (ORDER.compare(hit, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(hit);
+            }
+        }
+
+        List<UserSearchResponse> sorted() {
+            List<UserSearchResponse> hits = new ArrayList<>(heap);
+            hits.sort(ORDER);
+            return hits;
+        }
+    }
+
+    private record Document(Long id, String nickname, String normalized, Set<String> grams,
+                            UserRole role, UserStatus status) {
+        UserSearchResponse toResponse(int score) {
+            return new UserSearchResponse(id, nickname, role, status, score);
+        }
+    }
+}
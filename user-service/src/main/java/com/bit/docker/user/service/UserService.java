@@ -1,32 +1,77 @@
 package com.bit.docker.user.service;
 
+import com.bit.docker.user.dto.response.BlockedUsersResponse;
 import com.bit.docker.user.dto.response.UserResponse;
+import com.bit.docker.user.dto.response.UserSearchPageResponse;
+import com.bit.docker.user.dto.response.UserSummaryResponse;
 import com.bit.docker.user.model.User;
 import com.bit.docker.user.model.UserRole;
 import com.bit.docker.user.model.UserStatus;
+import com.bit.docker.user.repository.UserNicknameView;
 import com.bit.docker.user.repository.UserRepository;
+import com.bit.docker.readmodel.user.UserReadModel;
+import com.bit.docker.readmodel.user.UserView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
+    // 일괄 조회 한 번에 받을 수 있는 최대 ID 수
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final UserRepository userRepository;
+    private final BlockedUserRegistry blockedUserRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NicknameSearchIndex nicknameSearchIndex;
+    private final UserReadModel userReadModel;
 
-    // 사용자 조회
+    // 사용자 조회 - 읽기 모델 캐시 우선, 미스일 때만 DB
     public UserResponse getUser(Long userId) {
-        User user = userRepository.findById(userId)
+        UserView user = userReadModel.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         return UserResponse.from(user);
     }
     
+    // 사용자 일괄 조회 (다른 서비스에서 호출) - 캐시에 없는 ID만 쿼리 한 번으로 조회
+    // 없는 ID는 결과에서 빠짐
+    public Map<Long, UserSummaryResponse> getUserSummaries(Collection<Long> ids) {
+        Set<Long> uniqueIds = ids.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (uniqueIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 사용자는 최대 " + MAX_BATCH_SIZE + "명입니다.");
+        }
+        if (uniqueIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, UserSummaryResponse> result = new LinkedHashMap<>();
+        userReadModel.findAllById(uniqueIds)
+            .forEach((id, user) -> result.put(id, UserSummaryResponse.from(user)));
+        return result;
+    }
+    
+    // 닉네임 검색 (관리자용) - 메모리 n-gram 인덱스
+    public UserSearchPageResponse searchUsers(String query, NicknameSearchIndex.Mode mode, String cursor, int size) {
+        return nicknameSearchIndex.search(query, mode, cursor, size);
+    }
+    
     // 사용자 목록 (관리자용)
     public Page<UserResponse> getUsers(Pageable pageable) {
         return userRepository.findAll(pageable)
@@ -39,6 +84,7 @@ public class UserService {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         user.setStatus(UserStatus.BLOCKED);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(userId, true));
     }
     
     // 사용자 정지 해제
@@ -47,17 +93,36 @@ public class UserService {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         user.setStatus(UserStatus.ACTIVE);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(userId, false));
     }
     
-    // 상태 확인 (다른 서비스에서 호출)
+    // 정지/해제 커밋 후 읽기 모델 캐시에서 제거 (다음 조회 때 DB에서 다시 적재)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        userReadModel.invalidate(event.userId());
+    }
+    
+    // 상태 확인 (다른 서비스에서 호출) - 차단 목록에 있으면 DB 조회 없이 true
+    // 목록에 없으면 존재 여부만 확인 (없는 사용자는 기존처럼 예외)
     public boolean isUserBlocked(Long userId) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        return user.getStatus() == UserStatus.BLOCKED;
+        if (blockedUserRegistry.isBlocked(userId)) {
+            return true;
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        return false;
+    }
+    
+    // 차단 사용자 전체 목록 (다른 서비스의 캐시 동기화용)
+    public BlockedUsersResponse getBlockedUsers() {
+        BlockedUserRegistry.Snapshot snapshot = blockedUserRegistry.snapshot();
+        long[] ids = snapshot.blocked().stream().asLongStream().toArray();
+        return new BlockedUsersResponse(blockedUserRegistry.epoch(), snapshot.version(), ids);
     }
 
-    // 역할별 사용자 조회 (다른 서비스에서 호출)
-    public Page<UserResponse> getUsersByRole(String role, Pageable pageable) {
+    // 역할별 사용자 조회 (다른 서비스에서 호출) - DB 페이지네이션 + id/nickname만
+    public Page<UserNicknameView> getUsersByRole(String role, Pageable pageable) {
         // String을 UserRole enum으로 변환
         UserRole userRole;
         try {
@@ -66,16 +131,6 @@ public class UserService {
             throw new IllegalArgumentException("유효하지 않은 역할입니다: " + role);
         }
         
-        // Repository에서 제공하는 findByRole 사용
-        List<User> users = userRepository.findByRole(userRole);
-        
-        // List를 Page로 변환
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), users.size());
-        List<UserResponse> content = users.subList(start, Math.min(end, users.size())).stream()
-            .map(UserResponse::from)
-            .toList();
-        
-        return new PageImpl<>(content, pageable, users.size());
+        return userRepository.findByRole(userRole, pageable);
     }
 }
@@ -0,0 +1,5 @@
+package com.bit.docker.user.service;
+
+// 사용자 정지/해제 (커밋 후 BlockedUserRegistry 반영 + 구독 서비스에 전파)
+public record UserStatusChangedEvent(Long userId, boolean blocked) {
+}
@@ -0,0 +1,46 @@
+package com.bit.docker.user.service;
+
+import com.bit.docker.user.config.UserStatusProperties;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.Map;
+
+/**
+ * 정지/해제 전파
+ * - 구독 서비스(message-service 차단 목록, auth-service 리프레시 토큰 폐기)에 비동기로 알림
+ * - 실패해도 message-service는 주기 동기화로, auth-service는 읽기 모델 TTL 후 재발급 토큰의 status로 복구
+ */
+@Component
+public class UserStatusPublisher {
+    private final UserStatusProperties properties;
+    private final RestClient restClient = RestClient.create();
+
+    public UserStatusPublisher(UserStatusProperties properties) {
+        this.properties = properties;
+    }
+
+    @Async
+    public void publish(Long userId, boolean blocked, String epoch, long version) {
+        Map<String, Object> body = Map.of(
+            "userId", userId,
+            "blocked", blocked,
+            "epoch", epoch,
+            "version", version
+        );
+        for (String subscriber : properties.getSubscribers()) {
+            try {
+                restClient.post()
+                    .uri(subscriber)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body)
+                    .retrieve()
+                    .toBodilessEntity();
+            } catch (Exception e) {
+                System.err.println("사용자 상태 전파 실패: " + subscriber + ", " + e.getMessage());
+            }
+        }
+    }
+}